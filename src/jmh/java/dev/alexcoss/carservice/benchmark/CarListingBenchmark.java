@@ -0,0 +1,146 @@
+package dev.alexcoss.carservice.benchmark;
+
+import dev.alexcoss.carservice.config.EntityCacheProperties;
+import dev.alexcoss.carservice.config.HibernateCacheConfig;
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.dto.CarSummaryDTO;
+import dev.alexcoss.carservice.mapper.CarMapper;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.CategoryMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.repository.CarRepository;
+import dev.alexcoss.carservice.repository.CarSummaryRepository;
+import dev.alexcoss.carservice.service.CarService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarListingBenchmark {
+
+    private static final int SEEDED_CARS = 10_000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"true", "false"})
+    private boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private CarService carService;
+    private Statistics statistics;
+    private CarFilterDTO filter;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ListingConfig.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.datasource.url=" + System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/postgres"),
+                "--spring.datasource.username=" + System.getProperty("benchmark.db.username", "postgres"),
+                "--spring.datasource.password=" + System.getProperty("benchmark.db.password", ""),
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache,
+                "--logging.level.root=warn");
+        carService = context.getBean(CarService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        seed(context.getBean(JdbcTemplate.class));
+        filter = CarFilterDTO.builder()
+            .minYear(2005)
+            .pageable(PageRequest.of(3, pageSize, Sort.by("id")))
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<CarDTO> entityListing(SqlCounters counters) {
+        long statementsBefore = statistics.getPrepareStatementCount();
+        Page<CarDTO> page = carService.getListCarsWithPagination(filter);
+        counters.record(statistics.getPrepareStatementCount() - statementsBefore, page.getNumberOfElements());
+        return page;
+    }
+
+    @Benchmark
+    public CarDTO carById(SqlCounters counters) {
+        long statementsBefore = statistics.getPrepareStatementCount();
+        CarDTO car = carService.getCarById(ThreadLocalRandom.current().nextLong(1, SEEDED_CARS + 1));
+        counters.record(statistics.getPrepareStatementCount() - statementsBefore, 1);
+        return car;
+    }
+
+    @Benchmark
+    public Page<CarSummaryDTO> summaryListing() {
+        return carService.getCarSummaries(filter);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+        jdbcTemplate.update("INSERT INTO car.category (category_id, name) VALUES (1, 'SUV'), (2, 'Sedan'), (3, 'Coupe')");
+        jdbcTemplate.update("INSERT INTO car.producer (producer_id, name) SELECT i, 'Producer ' || i FROM generate_series(1, 50) i");
+        jdbcTemplate.update("INSERT INTO car.model (model_id, name, producer_id) SELECT i, 'Model ' || i, i % 50 + 1 FROM generate_series(1, 500) i");
+        jdbcTemplate.update("""
+            INSERT INTO car.car (id, object_id, year, model_id)
+            SELECT i, 'car-' || i, (2000 + i % 20)::TEXT, i % 500 + 1 FROM generate_series(1, ?) i
+            """, SEEDED_CARS);
+        jdbcTemplate.update("""
+            INSERT INTO car.car_category (car_id, category_id)
+            SELECT id, id % 3 + 1 FROM car.car UNION ALL SELECT id, (id + 1) % 3 + 1 FROM car.car
+            """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SqlCounters {
+
+        public long statements;
+        public long cars;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            cars = 0;
+        }
+
+        void record(long statements, int cars) {
+            this.statements += statements;
+            this.cars += cars;
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Car.class)
+    @EnableJpaRepositories(basePackageClasses = CarRepository.class)
+    @Import({CarService.class, CarSummaryRepository.class, CarMapper.class, CarModelMapper.class, ProducerMapper.class,
+        CategoryMapper.class, HibernateCacheConfig.class, EntityCacheProperties.class})
+    static class ListingConfig {
+    }
+}
@@ -0,0 +1,74 @@
+package dev.alexcoss.carservice.benchmark;
+
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.mapper.CarMapper;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.CategoryMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.model.Producer;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private List<Car> cars;
+    private ModelMapper modelMapper;
+    private CarMapper carMapper;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        carMapper = new CarMapper(new CarModelMapper(new ProducerMapper()), new CategoryMapper());
+
+        List<Category> categories = List.of(
+            Category.builder().id(1L).name("SUV").build(),
+            Category.builder().id(2L).name("Sedan").build(),
+            Category.builder().id(3L).name("Coupe").build());
+
+        cars = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Producer producer = Producer.builder().id((long) i).name("Producer " + i).build();
+            CarModel carModel = CarModel.builder().id((long) i).name("Model " + i).producer(producer).build();
+            cars.add(Car.builder()
+                .id((long) i)
+                .objectId("car-" + i)
+                .year(String.valueOf(2000 + i % 20))
+                .carModel(carModel)
+                .categories(new HashSet<>(Set.of(categories.get(i % 3), categories.get((i + 1) % 3))))
+                .build());
+        }
+    }
+
+    @Benchmark
+    public void modelMapper(Blackhole blackhole) {
+        for (Car car : cars) {
+            blackhole.consume(modelMapper.map(car, CarDTO.class));
+        }
+    }
+
+    @Benchmark
+    public void handWrittenMapper(Blackhole blackhole) {
+        for (Car car : cars) {
+            blackhole.consume(carMapper.toDTO(car));
+        }
+    }
+}
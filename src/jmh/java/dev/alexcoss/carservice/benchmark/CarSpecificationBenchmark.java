@@ -0,0 +1,72 @@
+package dev.alexcoss.carservice.benchmark;
+
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarSpecificationBenchmark {
+
+    @Param({"none", "manufacturer", "manufacturer+minYear+maxYear", "all"})
+    private String filter;
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private CriteriaBuilder builder;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new MetadataSources(new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+            .applySetting(AvailableSettings.ALLOW_METADATA_ON_BOOT, false)
+            .build())
+            .addAnnotatedClasses(Car.class, CarModel.class, Producer.class, Category.class)
+            .buildMetadata()
+            .buildSessionFactory();
+        session = sessionFactory.openSession();
+        builder = session.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate buildPredicate() {
+        CriteriaQuery<Car> query = builder.createQuery(Car.class);
+        Root<Car> root = query.from(Car.class);
+        return createSpecification().toPredicate(root, query, builder);
+    }
+
+    private Specification<Car> createSpecification() {
+        boolean all = filter.equals("all");
+        return Specification.where(CarSpecification.hasProducer(filter.contains("manufacturer") || all ? "Audi" : null)
+            .and(CarSpecification.hasModel(all ? "Q3" : null))
+            .and(CarSpecification.hasYearGreaterThanOrEqualTo(filter.contains("minYear") || all ? 2005 : null))
+            .and(CarSpecification.hasYearLessThanOrEqualTo(filter.contains("maxYear") || all ? 2015 : null))
+            .and(CarSpecification.hasCategory(all ? "SUV" : null)));
+    }
+}
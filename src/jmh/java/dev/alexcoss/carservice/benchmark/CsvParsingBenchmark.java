@@ -0,0 +1,51 @@
+package dev.alexcoss.carservice.benchmark;
+
+import com.opencsv.bean.CsvToBeanBuilder;
+import dev.alexcoss.carservice.model.CarCsv;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvParsingBenchmark {
+
+    @Param({"small_file.csv", "file.csv"})
+    private String fileName;
+
+    private Path file;
+
+    @Setup
+    public void setUp() {
+        file = Path.of(System.getProperty("benchmark.csv.directory", "src/main/resources/csv"), fileName);
+    }
+
+    @Benchmark
+    public List<CarCsv> parseAll() throws IOException {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            return new CsvToBeanBuilder<CarCsv>(reader)
+                .withType(CarCsv.class)
+                .build()
+                .parse();
+        }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            for (CarCsv carCsv : new CsvToBeanBuilder<CarCsv>(reader).withType(CarCsv.class).build()) {
+                blackhole.consume(carCsv);
+            }
+        }
+    }
+}
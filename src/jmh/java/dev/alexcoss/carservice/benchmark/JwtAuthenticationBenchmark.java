@@ -0,0 +1,111 @@
+package dev.alexcoss.carservice.benchmark;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import dev.alexcoss.carservice.config.security.CachingJwtAuthenticationProvider;
+import dev.alexcoss.carservice.config.security.JwtAuthenticationCacheProperties;
+import dev.alexcoss.carservice.config.security.JwtConverter;
+import dev.alexcoss.carservice.config.security.JwtConverterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final int CLIENTS = 50;
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    private BearerTokenAuthenticationFilter filter;
+    private List<String> authorizationHeaders;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        RSAKey key = new RSAKeyGenerator(2048).keyID("benchmark").generate();
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)));
+        authorizationHeaders = IntStream.range(0, CLIENTS)
+            .mapToObj(client -> "Bearer " + encoder.encode(JwtEncoderParameters.from(
+                JwsHeader.with(SignatureAlgorithm.RS256).keyId("benchmark").build(),
+                JwtClaimsSet.builder()
+                    .subject("client-" + client)
+                    .claim("principal_username", "client-" + client)
+                    .claim("scope", "cars")
+                    .claim("resource_access", Map.of("car-client", Map.of("roles", List.of("USER", "ADMIN"))))
+                    .issuedAt(Instant.now())
+                    .expiresAt(Instant.now().plusSeconds(3600))
+                    .build())).getTokenValue())
+            .toList();
+
+        JwtConverterProperties converterProperties = new JwtConverterProperties();
+        converterProperties.setResourceId("car-client");
+        converterProperties.setPrincipalAttribute("principal_username");
+        JwtAuthenticationProvider provider = new JwtAuthenticationProvider(NimbusJwtDecoder.withPublicKey(key.toRSAPublicKey()).build());
+        provider.setJwtAuthenticationConverter(new JwtConverter(converterProperties));
+
+        AuthenticationProvider authenticationProvider = cached
+            ? new CachingJwtAuthenticationProvider(provider, new JwtAuthenticationCacheProperties(), new SimpleMeterRegistry())
+            : provider;
+        filter = new BearerTokenAuthenticationFilter(new ProviderManager(authenticationProvider));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int authenticate(ClientState client) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/cars");
+        request.addHeader("Authorization", authorizationHeaders.get(client.next()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        if (response.getStatus() != 200) {
+            throw new IllegalStateException("Authentication failed with " + response.getStatus());
+        }
+        return response.getStatus();
+    }
+
+    @State(Scope.Thread)
+    public static class ClientState {
+
+        private int client;
+
+        int next() {
+            client = (client + 1) % CLIENTS;
+            return client;
+        }
+    }
+}
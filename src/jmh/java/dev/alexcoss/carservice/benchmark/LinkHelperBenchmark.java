@@ -0,0 +1,56 @@
+package dev.alexcoss.carservice.benchmark;
+
+import dev.alexcoss.carservice.controller.linkhelper.CarsLinkHelper;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinkHelperBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private CarsLinkHelper linkHelper;
+    private CarFilterDTO carFilter;
+
+    @Setup
+    public void setUp() {
+        linkHelper = new CarsLinkHelper();
+        carFilter = CarFilterDTO.builder()
+            .manufacturer("Audi")
+            .minYear(2005)
+            .pageable(PageRequest.of(0, pageSize))
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public void linkPage(Blackhole blackhole) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/cars");
+        request.setServerName("cars.example.com");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        Link carsLink = linkHelper.createCarsLink(carFilter);
+        blackhole.consume(carsLink);
+        for (long id = 0; id < pageSize; id++) {
+            blackhole.consume(linkHelper.createSelfLink(id));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package dev.alexcoss.carservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.CategoryDTO;
+import dev.alexcoss.carservice.dto.ProducerDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.hateoas.Link;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private Page<CarDTO> page;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        List<CategoryDTO> categories = List.of(
+            CategoryDTO.builder().id(1L).name("SUV").build(),
+            CategoryDTO.builder().id(2L).name("Sedan").build(),
+            CategoryDTO.builder().id(3L).name("Coupe").build());
+        Link carsLink = Link.of("http://localhost/api/v1/cars?manufacturer=Audi&page=0&size=" + pageSize).withRel("cars");
+
+        List<CarDTO> cars = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            ProducerDTO producer = ProducerDTO.builder().id((long) i).name("Producer " + i).build();
+            CarDTO carDTO = CarDTO.builder()
+                .id((long) i)
+                .objectId("car-" + i)
+                .year(String.valueOf(2000 + i % 20))
+                .carModel(CarModelDTO.builder().id((long) i).name("Model " + i).producer(producer).build())
+                .categories(new HashSet<>(Set.of(categories.get(i % 3), categories.get((i + 1) % 3))))
+                .build();
+            carDTO.add(Link.of("http://localhost/api/v1/cars/" + i).withSelfRel());
+            carDTO.add(carsLink);
+            cars.add(carDTO);
+        }
+        page = new PageImpl<>(cars, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.alexcoss.carservice.benchmark;
+
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.mapper.CarMapper;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.CategoryMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Producer;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PatchMergeBenchmark {
+
+    private ModelMapper modelMapper;
+    private CarMapper carMapper;
+    private CarDTO patch;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        carMapper = new CarMapper(new CarModelMapper(new ProducerMapper()), new CategoryMapper());
+        patch = CarDTO.builder()
+            .year("2021")
+            .carModel(CarModelDTO.builder().id(7L).name("A4").producer(ProducerDTO.builder().id(3L).name("Audi").build()).build())
+            .build();
+    }
+
+    @Benchmark
+    public Car modelMapper() {
+        Car car = existingCar();
+        modelMapper.getConfiguration().setSkipNullEnabled(true);
+        modelMapper.map(patch, car);
+        return car;
+    }
+
+    @Benchmark
+    public Car mergeMapper() {
+        Car car = existingCar();
+        carMapper.merge(patch, car);
+        return car;
+    }
+
+    private Car existingCar() {
+        Producer producer = Producer.builder().id(3L).name("Audi").build();
+        return Car.builder()
+            .id(1L)
+            .objectId("ZRgPP9dBMm")
+            .year("2020")
+            .carModel(CarModel.builder().id(2L).name("Q3").producer(producer).build())
+            .build();
+    }
+}
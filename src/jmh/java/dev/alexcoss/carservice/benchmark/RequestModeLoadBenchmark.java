@@ -0,0 +1,95 @@
+package dev.alexcoss.carservice.benchmark;
+
+import dev.alexcoss.carservice.CarServiceApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(128)
+@Fork(1)
+public class RequestModeLoadBenchmark {
+
+    private static final int SEEDED_CARS = 10_000;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CarServiceApplication.class)
+            .run("--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=" + System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/postgres"),
+                "--spring.datasource.username=" + System.getProperty("benchmark.db.username", "postgres"),
+                "--spring.datasource.password=" + System.getProperty("benchmark.db.password", ""),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=warn");
+        seed(context.getBean(JdbcTemplate.class));
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/cars";
+        httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getCar() throws IOException, InterruptedException {
+        return get(baseUrl + "/" + ThreadLocalRandom.current().nextInt(1, SEEDED_CARS + 1));
+    }
+
+    @Benchmark
+    public int listCars() throws IOException, InterruptedException {
+        return get(baseUrl + "?minYear=2005&size=20&page=" + ThreadLocalRandom.current().nextInt(50));
+    }
+
+    private int get(String url) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+            HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + url + " returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+        jdbcTemplate.update("INSERT INTO car.category (category_id, name) VALUES (1, 'SUV'), (2, 'Sedan'), (3, 'Coupe')");
+        jdbcTemplate.update("INSERT INTO car.producer (producer_id, name) SELECT i, 'Producer ' || i FROM generate_series(1, 50) i");
+        jdbcTemplate.update("INSERT INTO car.model (model_id, name, producer_id) SELECT i, 'Model ' || i, i % 50 + 1 FROM generate_series(1, 500) i");
+        jdbcTemplate.update("""
+            INSERT INTO car.car (id, object_id, year, model_id)
+            SELECT i, 'car-' || i, (2000 + i % 20)::TEXT, i % 500 + 1 FROM generate_series(1, ?) i
+            """, SEEDED_CARS);
+        jdbcTemplate.update("""
+            INSERT INTO car.car_category (car_id, category_id)
+            SELECT id, id % 3 + 1 FROM car.car UNION ALL SELECT id, (id + 1) % 3 + 1 FROM car.car
+            """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
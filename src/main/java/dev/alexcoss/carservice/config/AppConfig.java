@@ -1,14 +0,0 @@
-package dev.alexcoss.carservice.config;
-
-import org.modelmapper.ModelMapper;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class AppConfig {
-
-    @Bean
-    ModelMapper modelMapper(){
-        return new ModelMapper();
-    }
-}
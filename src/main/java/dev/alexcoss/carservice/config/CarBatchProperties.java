@@ -0,0 +1,20 @@
+package dev.alexcoss.carservice.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "car.batch")
+public class CarBatchProperties {
+
+    @Min(1)
+    private int chunkSize = 500;
+
+    @Min(1)
+    private int maxItems = 10_000;
+}
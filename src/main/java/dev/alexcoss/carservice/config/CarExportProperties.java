@@ -0,0 +1,23 @@
+package dev.alexcoss.carservice.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "car.export")
+public class CarExportProperties {
+
+    @Min(1)
+    private int maxConcurrent = 2;
+
+    @NotNull
+    private Duration idleTimeout = Duration.ofMinutes(1);
+}
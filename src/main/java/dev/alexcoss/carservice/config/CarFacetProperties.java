@@ -0,0 +1,25 @@
+package dev.alexcoss.carservice.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "car.facets")
+public class CarFacetProperties {
+
+    @NotNull
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    @Min(1)
+    private int fetchSize = 10_000;
+
+    private boolean warmUp = true;
+}
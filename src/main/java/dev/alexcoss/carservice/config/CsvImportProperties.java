@@ -0,0 +1,37 @@
+package dev.alexcoss.carservice.config;
+
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "csv.import")
+public class CsvImportProperties {
+
+    @NotNull
+    private ImportMode mode = ImportMode.STREAMING;
+
+    @Min(1)
+    private int batchSize = 1000;
+
+    @Min(1)
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    private boolean deleteMissing;
+
+    @NotBlank
+    private String directory = "./imports";
+
+    @Min(1)
+    private int jobThreads = 1;
+
+    @Min(0)
+    private int jobQueueCapacity = 10;
+}
@@ -0,0 +1,26 @@
+package dev.alexcoss.carservice.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "cache.entity")
+public class EntityCacheProperties {
+
+    @Min(1)
+    private long maximumSize = 10_000;
+
+    @NotNull
+    private Duration timeToLive = Duration.ofHours(1);
+
+    @Min(1)
+    private long maximumQueries = 1_000;
+}
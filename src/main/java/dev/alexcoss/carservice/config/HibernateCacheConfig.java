@@ -0,0 +1,61 @@
+package dev.alexcoss.carservice.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import dev.alexcoss.carservice.config.metrics.HibernateCacheMetrics;
+import dev.alexcoss.carservice.model.CacheRegions;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(EntityCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            cacheManager.createCache(region, regionConfiguration(properties.getMaximumSize(), properties.getTimeToLive()));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+            regionConfiguration(properties.getMaximumQueries(), properties.getTimeToLive()));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+    public HibernateCacheMetrics hibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateCacheMetrics(entityManagerFactory.unwrap(SessionFactory.class));
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maximumSize, Duration timeToLive) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+        return configuration;
+    }
+}
@@ -0,0 +1,48 @@
+package dev.alexcoss.carservice.config;
+
+import dev.alexcoss.carservice.config.metrics.HibernateStatisticsFilter;
+import dev.alexcoss.carservice.config.metrics.HibernateStatisticsIntegrator;
+import dev.alexcoss.carservice.config.metrics.HibernateStatisticsSessionListener;
+import dev.alexcoss.carservice.config.metrics.RequestTags;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        Function<ProceedingJoinPoint, Iterable<Tag>> tags = joinPoint -> Tags.of(
+                "class", joinPoint.getStaticPart().getSignature().getDeclaringTypeName(),
+                "method", joinPoint.getStaticPart().getSignature().getName())
+            .and(RequestTags.current());
+        return new TimedAspect(meterRegistry, tags);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, HibernateStatisticsSessionListener.class.getName());
+            properties.put(INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new HibernateStatisticsIntegrator()));
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<HibernateStatisticsFilter> hibernateStatisticsFilter(MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new HibernateStatisticsFilter(meterRegistry));
+    }
+}
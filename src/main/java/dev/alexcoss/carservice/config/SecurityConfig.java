@@ -1,14 +1,21 @@
 package dev.alexcoss.carservice.config;
 
+import dev.alexcoss.carservice.config.security.CachingJwtAuthenticationProvider;
+import dev.alexcoss.carservice.config.security.JwtAuthenticationCacheProperties;
 import dev.alexcoss.carservice.config.security.JwtConverter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 import org.springframework.security.web.SecurityFilterChain;
 
 @RequiredArgsConstructor
@@ -17,12 +24,17 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
 
     private final JwtConverter jwtConverter;
+    private final JwtAuthenticationCacheProperties jwtAuthenticationCacheProperties;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtDecoder jwtDecoder, MeterRegistry meterRegistry) throws Exception {
         return http
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/api/v1/imports/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/v1/cars/export").authenticated()
                 .requestMatchers(HttpMethod.GET, "/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/**").authenticated()
                 .requestMatchers(HttpMethod.PATCH, "/**").authenticated()
@@ -32,7 +44,16 @@ public class SecurityConfig {
             .sessionManagement(sessionManagement -> sessionManagement
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .oauth2ResourceServer(oauth2 -> oauth2
-                .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtConverter)))
+                .jwt(jwt -> jwt.authenticationManager(jwtAuthenticationManager(jwtDecoder, meterRegistry))))
             .build();
     }
+
+    private AuthenticationManager jwtAuthenticationManager(JwtDecoder jwtDecoder, MeterRegistry meterRegistry) {
+        JwtAuthenticationProvider provider = new JwtAuthenticationProvider(jwtDecoder);
+        provider.setJwtAuthenticationConverter(jwtConverter);
+        if (!jwtAuthenticationCacheProperties.isEnabled()) {
+            return new ProviderManager(provider);
+        }
+        return new ProviderManager(new CachingJwtAuthenticationProvider(provider, jwtAuthenticationCacheProperties, meterRegistry));
+    }
 }
@@ -0,0 +1,46 @@
+package dev.alexcoss.carservice.config.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+@RequiredArgsConstructor
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private final SessionFactory sessionFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+
+            FunctionCounter.builder("hibernate.cache.requests", regionStatistics, CacheRegionStatistics::getHitCount)
+                .tags("region", region, "result", "hit")
+                .register(registry);
+            FunctionCounter.builder("hibernate.cache.requests", regionStatistics, CacheRegionStatistics::getMissCount)
+                .tags("region", region, "result", "miss")
+                .register(registry);
+            FunctionCounter.builder("hibernate.cache.puts", regionStatistics, CacheRegionStatistics::getPutCount)
+                .tags("region", region)
+                .register(registry);
+            Gauge.builder("hibernate.cache.hit.ratio", regionStatistics, HibernateCacheMetrics::hitRatio)
+                .tags("region", region)
+                .register(registry);
+        }
+    }
+
+    private static double hitRatio(CacheRegionStatistics regionStatistics) {
+        long hits = regionStatistics.getHitCount();
+        long requests = hits + regionStatistics.getMissCount();
+        return requests == 0 ? Double.NaN : (double) hits / requests;
+    }
+}
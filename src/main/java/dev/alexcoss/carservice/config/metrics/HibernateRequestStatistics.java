@@ -0,0 +1,50 @@
+package dev.alexcoss.carservice.config.metrics;
+
+import lombok.Getter;
+
+@Getter
+public class HibernateRequestStatistics {
+
+    private static final ThreadLocal<HibernateRequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private long queries;
+    private long entityLoads;
+    private long cacheHits;
+    private long cacheMisses;
+
+    public static HibernateRequestStatistics start() {
+        HibernateRequestStatistics statistics = new HibernateRequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    static void recordQuery() {
+        HibernateRequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.queries++;
+        }
+    }
+
+    static void recordEntityLoad() {
+        HibernateRequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoads++;
+        }
+    }
+
+    static void recordCacheGet(boolean hit) {
+        HibernateRequestStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return;
+        }
+        if (hit) {
+            statistics.cacheHits++;
+        } else {
+            statistics.cacheMisses++;
+        }
+    }
+}
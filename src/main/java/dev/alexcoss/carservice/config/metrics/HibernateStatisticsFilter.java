@@ -0,0 +1,51 @@
+package dev.alexcoss.carservice.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class HibernateStatisticsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        HibernateRequestStatistics statistics = HibernateRequestStatistics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            HibernateRequestStatistics.stop();
+            record(RequestTags.of(request), statistics);
+        }
+    }
+
+    private void record(Tags tags, HibernateRequestStatistics statistics) {
+        summary("hibernate.request.queries", "queries", "Statements executed by Hibernate sessions, JdbcTemplate queries are not counted", tags)
+            .record(statistics.getQueries());
+        summary("hibernate.request.entity.loads", "entities", "Entities loaded by Hibernate sessions", tags)
+            .record(statistics.getEntityLoads());
+        summary("hibernate.request.cache.hits", "hits", "Second-level cache hits of Hibernate sessions", tags)
+            .record(statistics.getCacheHits());
+        summary("hibernate.request.cache.misses", "misses", "Second-level cache misses of Hibernate sessions", tags)
+            .record(statistics.getCacheMisses());
+    }
+
+    private DistributionSummary summary(String name, String baseUnit, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+            .baseUnit(baseUnit)
+            .description(description)
+            .tags(tags)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.alexcoss.carservice.config.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+public class HibernateStatisticsSessionListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        HibernateRequestStatistics.recordQuery();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        HibernateRequestStatistics.recordQuery();
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        HibernateRequestStatistics.recordCacheGet(hit);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.alexcoss.carservice.config.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class RequestTags {
+
+    public static final String NONE = "none";
+
+    private static final List<String> FILTER_PARAMETERS = List.of("manufacturer", "model", "minYear", "maxYear", "category");
+
+    private RequestTags() {
+    }
+
+    public static Tags current() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return of(attributes.getRequest());
+        }
+        return Tags.of("endpoint", NONE, "filter", NONE);
+    }
+
+    public static Tags of(HttpServletRequest request) {
+        return Tags.of("endpoint", endpoint(request), "filter", filterShape(request));
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? NONE : request.getMethod() + " " + pattern;
+    }
+
+    private static String filterShape(HttpServletRequest request) {
+        MultiValueMap<String, String> queryParameters = queryParameters(request);
+        String shape = FILTER_PARAMETERS.stream()
+            .filter(parameter -> hasValue(queryParameters.get(parameter)))
+            .collect(Collectors.joining("+"));
+        return shape.isEmpty() ? NONE : shape;
+    }
+
+    private static MultiValueMap<String, String> queryParameters(HttpServletRequest request) {
+        String queryString = request.getQueryString();
+        if (queryString == null) {
+            return new LinkedMultiValueMap<>();
+        }
+        return UriComponentsBuilder.newInstance().query(queryString).build().getQueryParams();
+    }
+
+    private static boolean hasValue(List<String> values) {
+        return values != null && values.stream()
+            .anyMatch(value -> value != null && !URLDecoder.decode(value, StandardCharsets.UTF_8).isBlank());
+    }
+}
@@ -0,0 +1,107 @@
+package dev.alexcoss.carservice.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+public class CachingJwtAuthenticationProvider implements AuthenticationProvider {
+
+    public static final String CACHE_NAME = "jwtAuthentications";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, JwtAuthenticationToken> authentications;
+
+    public CachingJwtAuthenticationProvider(AuthenticationProvider delegate, JwtAuthenticationCacheProperties properties,
+                                            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.authentications = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfter(new UntilTokenExpires(properties.getMaximumTimeToLive()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, authentications, CACHE_NAME);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        BearerTokenAuthenticationToken bearer = (BearerTokenAuthenticationToken) authentication;
+        String key = hash(bearer.getToken());
+
+        JwtAuthenticationToken cached = authentications.getIfPresent(key);
+        if (cached != null && isValid(cached)) {
+            JwtAuthenticationToken result = new JwtAuthenticationToken(cached.getToken(), cached.getAuthorities(), cached.getName());
+            result.setDetails(bearer.getDetails());
+            return result;
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result instanceof JwtAuthenticationToken jwtAuthentication) {
+            authentications.put(key, jwtAuthentication);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return BearerTokenAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    public long size() {
+        return authentications.estimatedSize();
+    }
+
+    private static boolean isValid(JwtAuthenticationToken authentication) {
+        Instant expiresAt = authentication.getToken().getExpiresAt();
+        return expiresAt == null || Instant.now().isBefore(expiresAt);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record UntilTokenExpires(Duration maximumTimeToLive) implements Expiry<String, JwtAuthenticationToken> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtAuthenticationToken value, long currentTime) {
+            Instant expiresAt = value.getToken().getExpiresAt();
+            if (expiresAt == null) {
+                return maximumTimeToLive.toNanos();
+            }
+            Duration remaining = Duration.between(Instant.now(), expiresAt);
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return remaining.compareTo(maximumTimeToLive) < 0 ? remaining.toNanos() : maximumTimeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtAuthenticationToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtAuthenticationToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
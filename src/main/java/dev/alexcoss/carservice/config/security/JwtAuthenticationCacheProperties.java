@@ -0,0 +1,25 @@
+package dev.alexcoss.carservice.config.security;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "jwt.auth.cache")
+public class JwtAuthenticationCacheProperties {
+
+    private boolean enabled = true;
+
+    @Min(1)
+    private long maximumSize = 10_000;
+
+    @NotNull
+    private Duration maximumTimeToLive = Duration.ofMinutes(5);
+}
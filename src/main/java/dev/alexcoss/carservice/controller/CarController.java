@@ -1,9 +1,20 @@
 package dev.alexcoss.carservice.controller;
 
 import dev.alexcoss.carservice.controller.linkhelper.CarsLinkHelper;
+import dev.alexcoss.carservice.dto.BatchResultDTO;
 import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarFacetsDTO;
 import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.dto.CarSummaryDTO;
+import dev.alexcoss.carservice.dto.CursorPageDTO;
+import dev.alexcoss.carservice.service.CarBatchService;
+import dev.alexcoss.carservice.service.CarExportService;
+import dev.alexcoss.carservice.service.CarFacetService;
 import dev.alexcoss.carservice.service.CarService;
+import dev.alexcoss.carservice.service.export.ExportFormat;
+import dev.alexcoss.carservice.util.ETags;
+import dev.alexcoss.carservice.util.VersionedId;
+import dev.alexcoss.carservice.util.exception.InvalidCursorException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -11,17 +22,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/cars")
@@ -30,15 +50,23 @@ import java.net.URI;
 public class CarController {
 
     private final CarService carService;
+    private final CarExportService carExportService;
+    private final CarBatchService carBatchService;
+    private final CarFacetService carFacetService;
     private final CarsLinkHelper linkHelper;
 
     @GetMapping("/{id}")
     @Operation(summary = "Get a car by ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "successful operation", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CarDTO.class))),
+        @ApiResponse(responseCode = "304", description = "car not modified"),
         @ApiResponse(responseCode = "404", description = "car not found")
     })
-    public ResponseEntity<CarDTO> getCar(@PathVariable Long id) {
+    public ResponseEntity<CarDTO> getCar(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(carService.getCarETag(id))) {
+            return null;
+        }
+
         CarDTO carDTO = carService.getCarById(id);
         carDTO.add(linkHelper.createSelfLink(id));
         carDTO.add(linkHelper.createCarsLink());
@@ -84,7 +112,9 @@ public class CarController {
     @GetMapping
     @Operation(summary = "List all cars")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "successful operation")
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "304", description = "page not modified"),
+        @ApiResponse(responseCode = "400", description = "invalid sort")
     })
     public ResponseEntity<Page<CarDTO>> listCars(
         @RequestParam(required = false) String manufacturer,
@@ -92,7 +122,49 @@ public class CarController {
         @RequestParam(required = false) Integer minYear,
         @RequestParam(required = false) Integer maxYear,
         @RequestParam(required = false) String category,
-        @PageableDefault(size = 10) Pageable pageable) {
+        @PageableDefault(size = 10) Pageable pageable,
+        WebRequest request) {
+
+        CarFilterDTO carFilterDTO = CarFilterDTO.builder()
+            .manufacturer(manufacturer)
+            .model(model)
+            .minYear(minYear)
+            .maxYear(maxYear)
+            .category(category)
+            .pageable(pageable)
+            .build();
+
+        Page<VersionedId> carIds = carService.getCarVersions(carFilterDTO);
+        if (request.checkNotModified(ETags.ofPage(carIds, VersionedId::id, VersionedId::eTag))) {
+            return null;
+        }
+        Page<CarDTO> cars = carService.getCars(carIds);
+
+        Link carsLink = linkHelper.createCarsLink(carFilterDTO);
+        cars.forEach(carDTO -> {
+            carDTO.add(linkHelper.createSelfLink(carDTO.getId()));
+            carDTO.add(carsLink);
+        });
+
+        return ResponseEntity.ok(cars);
+    }
+
+    @GetMapping(params = {"search", "!after"})
+    @Operation(summary = "Search cars by model or manufacturer name", description = "Prefix and fuzzy trigram match, ranked by word similarity and then by the requested sort")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "304", description = "page not modified"),
+        @ApiResponse(responseCode = "400", description = "invalid sort")
+    })
+    public ResponseEntity<Page<CarDTO>> searchCars(
+        @RequestParam(required = false) String manufacturer,
+        @RequestParam(required = false) String model,
+        @RequestParam(required = false) Integer minYear,
+        @RequestParam(required = false) Integer maxYear,
+        @RequestParam(required = false) String category,
+        @RequestParam String search,
+        @PageableDefault(size = 10) Pageable pageable,
+        WebRequest request) {
 
         CarFilterDTO carFilterDTO = CarFilterDTO.builder()
             .manufacturer(manufacturer)
@@ -100,19 +172,155 @@ public class CarController {
             .minYear(minYear)
             .maxYear(maxYear)
             .category(category)
+            .search(search)
             .pageable(pageable)
             .build();
 
-        Page<CarDTO> cars = carService.getListCarsWithPagination(carFilterDTO);
+        Page<VersionedId> carIds = carService.getCarVersions(carFilterDTO);
+        if (request.checkNotModified(ETags.ofPage(carIds, VersionedId::id, VersionedId::eTag))) {
+            return null;
+        }
+        Page<CarDTO> cars = carService.getCars(carIds);
 
+        Link carsLink = linkHelper.createSearchLink(carFilterDTO);
         cars.forEach(carDTO -> {
             carDTO.add(linkHelper.createSelfLink(carDTO.getId()));
-            carDTO.add(linkHelper.createCarsLink(carFilterDTO));
+            carDTO.add(carsLink);
         });
 
         return ResponseEntity.ok(cars);
     }
 
+    @GetMapping("/summary")
+    @Operation(summary = "List flat car summaries", description = "Reads rows straight into flat records without loading entities or adding links")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "400", description = "invalid sort")
+    })
+    public ResponseEntity<Page<CarSummaryDTO>> listCarSummaries(
+        @RequestParam(required = false) String manufacturer,
+        @RequestParam(required = false) String model,
+        @RequestParam(required = false) Integer minYear,
+        @RequestParam(required = false) Integer maxYear,
+        @RequestParam(required = false) String category,
+        @PageableDefault(size = 10) Pageable pageable) {
+
+        CarFilterDTO carFilterDTO = CarFilterDTO.builder()
+            .manufacturer(manufacturer)
+            .model(model)
+            .minYear(minYear)
+            .maxYear(maxYear)
+            .category(category)
+            .pageable(pageable)
+            .build();
+
+        return ResponseEntity.ok(carService.getCarSummaries(carFilterDTO));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Count matching cars per facet value", description = "Returns per manufacturer, model, category and year counts for the filter in one pass over an in-memory index. Writes rebuild the index in the background, so counts can briefly lag behind them; the first request after startup waits for the initial build")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation")
+    })
+    public ResponseEntity<CarFacetsDTO> getCarFacets(
+        @RequestParam(required = false) String manufacturer,
+        @RequestParam(required = false) String model,
+        @RequestParam(required = false) Integer minYear,
+        @RequestParam(required = false) Integer maxYear,
+        @RequestParam(required = false) String category) {
+
+        CarFilterDTO carFilterDTO = CarFilterDTO.builder()
+            .manufacturer(manufacturer)
+            .model(model)
+            .minYear(minYear)
+            .maxYear(maxYear)
+            .category(category)
+            .build();
+
+        return ResponseEntity.ok(carFacetService.getFacets(carFilterDTO));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all matching cars", description = "Streams every matching car as newline delimited json or as csv in the import file layout")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "401"),
+        @ApiResponse(responseCode = "429", description = "too many exports running"),
+        @ApiResponse(responseCode = "503", description = "export failed before any car was sent, later failures end the json stream with an error record and close the connection")
+    })
+    public void exportCars(
+        @RequestParam(required = false) String manufacturer,
+        @RequestParam(required = false) String model,
+        @RequestParam(required = false) Integer minYear,
+        @RequestParam(required = false) Integer maxYear,
+        @RequestParam(required = false) String category,
+        @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+        HttpServletResponse response) throws IOException {
+
+        CarFilterDTO carFilterDTO = CarFilterDTO.builder()
+            .manufacturer(manufacturer)
+            .model(model)
+            .minYear(minYear)
+            .maxYear(maxYear)
+            .category(category)
+            .build();
+
+        carExportService.exportCars(carFilterDTO, format, () -> {
+            if (format == ExportFormat.CSV) {
+                response.setContentType("text/csv;charset=UTF-8");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"cars.csv\"");
+            } else {
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            }
+            return response.getOutputStream();
+        });
+    }
+
+    @GetMapping(params = "after")
+    @Operation(summary = "List cars with keyset pagination", description = "Pass an empty `after` to get the first page, then the `nextCursor` of the previous page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "304", description = "page not modified"),
+        @ApiResponse(responseCode = "400", description = "invalid cursor or sort, or combined with search")
+    })
+    public ResponseEntity<CursorPageDTO<CarDTO>> listCarsAfter(
+        @RequestParam(required = false) String manufacturer,
+        @RequestParam(required = false) String model,
+        @RequestParam(required = false) Integer minYear,
+        @RequestParam(required = false) Integer maxYear,
+        @RequestParam(required = false) String category,
+        @RequestParam(required = false) String search,
+        @RequestParam String after,
+        @RequestParam(defaultValue = "10") int size,
+        @SortDefault(sort = "id") Sort sort,
+        WebRequest request) {
+
+        if (search != null) {
+            throw new InvalidCursorException("Car search results cannot be paged with a cursor, use page and size instead");
+        }
+
+        CarFilterDTO carFilterDTO = CarFilterDTO.builder()
+            .manufacturer(manufacturer)
+            .model(model)
+            .minYear(minYear)
+            .maxYear(maxYear)
+            .category(category)
+            .build();
+
+        CursorPageDTO<VersionedId> carIds = carService.getCarVersionsAfter(carFilterDTO, after, size, sort);
+        if (request.checkNotModified(ETags.ofPage(carIds, VersionedId::id, VersionedId::eTag))) {
+            return null;
+        }
+        CursorPageDTO<CarDTO> cars = carService.getCars(carIds);
+
+        cars.getContent().forEach(carDTO -> carDTO.add(linkHelper.createSelfLink(carDTO.getId())));
+        if (cars.getNextCursor() != null) {
+            cars.add(linkHelper.createNextLink(carFilterDTO, cars.getNextCursor(), cars.getSize(), sort));
+        }
+
+        return ResponseEntity.ok(cars);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a car by ID", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
@@ -126,4 +334,41 @@ public class CarController {
         carService.deleteCar(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create cars in batch", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchResultDTO.class))),
+        @ApiResponse(responseCode = "400", description = "batch is empty or too large"),
+        @ApiResponse(responseCode = "401"),
+        @ApiResponse(responseCode = "403")
+    })
+    public ResponseEntity<BatchResultDTO> createCars(@RequestBody List<CarDTO> carDTOs) {
+        return ResponseEntity.ok(carBatchService.createCars(carDTOs));
+    }
+
+    @PatchMapping("/batch")
+    @Operation(summary = "Update cars in batch", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchResultDTO.class))),
+        @ApiResponse(responseCode = "400", description = "batch is empty or too large"),
+        @ApiResponse(responseCode = "401"),
+        @ApiResponse(responseCode = "403")
+    })
+    public ResponseEntity<BatchResultDTO> updateCars(@RequestBody List<CarDTO> carDTOs) {
+        return ResponseEntity.ok(carBatchService.updateCars(carDTOs));
+    }
+
+    @DeleteMapping("/batch")
+    @Operation(summary = "Delete cars in batch", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchResultDTO.class))),
+        @ApiResponse(responseCode = "400", description = "batch is empty or too large"),
+        @ApiResponse(responseCode = "401"),
+        @ApiResponse(responseCode = "403")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BatchResultDTO> deleteCars(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(carBatchService.deleteCars(ids));
+    }
 }
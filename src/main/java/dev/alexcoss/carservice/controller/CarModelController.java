@@ -2,7 +2,11 @@ package dev.alexcoss.carservice.controller;
 
 import dev.alexcoss.carservice.controller.linkhelper.ModelLinkHelper;
 import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.CursorPageDTO;
 import dev.alexcoss.carservice.service.CarModelService;
+import dev.alexcoss.carservice.util.ETags;
+import dev.alexcoss.carservice.util.VersionedId;
+import dev.alexcoss.carservice.util.exception.InvalidCursorException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,11 +17,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortDefault;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 
@@ -34,9 +42,14 @@ public class CarModelController {
     @Operation(summary = "Get a model by ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "successful operation", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CarModelDTO.class))),
+        @ApiResponse(responseCode = "304", description = "model not modified"),
         @ApiResponse(responseCode = "404", description = "manufacturer not found")
     })
-    public ResponseEntity<CarModelDTO> getCarModel(@PathVariable Long id) {
+    public ResponseEntity<CarModelDTO> getCarModel(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(carModelService.getCarModelETag(id))) {
+            return null;
+        }
+
         CarModelDTO carModelDTO = carModelService.getCarModelById(id);
         carModelDTO.add(linkHelper.createSelfLink(id));
         carModelDTO.add(linkHelper.createModelsLink());
@@ -82,18 +95,77 @@ public class CarModelController {
     @GetMapping
     @Operation(summary = "List all models")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "successful operation")
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "304", description = "page not modified")
     })
-    public ResponseEntity<Page<CarModelDTO>> listCarModels(@RequestParam(required = false) String manufacturer, Pageable pageable) {
-        Page<CarModelDTO> models = carModelService.getListCarModels(manufacturer, pageable);
+    public ResponseEntity<Page<CarModelDTO>> listCarModels(@RequestParam(required = false) String manufacturer, Pageable pageable,
+                                                           WebRequest request) {
+        Page<VersionedId> modelIds = carModelService.getCarModelVersions(manufacturer, pageable);
+        if (request.checkNotModified(ETags.ofPage(modelIds, VersionedId::id, VersionedId::eTag))) {
+            return null;
+        }
+        Page<CarModelDTO> models = carModelService.getCarModels(modelIds);
+        Link modelsLink = linkHelper.createModelsLink(manufacturer, pageable);
         models.forEach(carModelDTO -> {
             carModelDTO.add(linkHelper.createSelfLink(carModelDTO.getId()));
-            carModelDTO.add(linkHelper.createModelsLink(manufacturer, pageable));
+            carModelDTO.add(modelsLink);
         });
 
         return ResponseEntity.ok(models);
     }
 
+    @GetMapping(params = {"search", "!after"})
+    @Operation(summary = "Search models by model or manufacturer name", description = "Prefix and fuzzy trigram match, ranked by word similarity")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "304", description = "page not modified"),
+        @ApiResponse(responseCode = "400", description = "sort is not supported")
+    })
+    public ResponseEntity<Page<CarModelDTO>> searchCarModels(@RequestParam String search, Pageable pageable, WebRequest request) {
+        Page<VersionedId> modelIds = carModelService.searchCarModelVersions(search, pageable);
+        if (request.checkNotModified(ETags.ofPage(modelIds, VersionedId::id, VersionedId::eTag))) {
+            return null;
+        }
+        Page<CarModelDTO> models = carModelService.getCarModels(modelIds);
+        Link modelsLink = linkHelper.createSearchLink(search, pageable);
+        models.forEach(carModelDTO -> {
+            carModelDTO.add(linkHelper.createSelfLink(carModelDTO.getId()));
+            carModelDTO.add(modelsLink);
+        });
+
+        return ResponseEntity.ok(models);
+    }
+
+    @GetMapping(params = "after")
+    @Operation(summary = "List models with keyset pagination", description = "Pass an empty `after` to get the first page, then the `nextCursor` of the previous page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "304", description = "page not modified"),
+        @ApiResponse(responseCode = "400", description = "invalid cursor or sort, or combined with search")
+    })
+    public ResponseEntity<CursorPageDTO<CarModelDTO>> listCarModelsAfter(@RequestParam(required = false) String manufacturer,
+                                                                        @RequestParam(required = false) String search,
+                                                                        @RequestParam String after,
+                                                                        @RequestParam(defaultValue = "10") int size,
+                                                                        @SortDefault(sort = "id") Sort sort,
+                                                                        WebRequest request) {
+        if (search != null) {
+            throw new InvalidCursorException("Model search results cannot be paged with a cursor, use page and size instead");
+        }
+        CursorPageDTO<VersionedId> modelIds = carModelService.getCarModelVersionsAfter(manufacturer, after, size, sort);
+        if (request.checkNotModified(ETags.ofPage(modelIds, VersionedId::id, VersionedId::eTag))) {
+            return null;
+        }
+        CursorPageDTO<CarModelDTO> models = carModelService.getCarModels(modelIds);
+
+        models.getContent().forEach(carModelDTO -> carModelDTO.add(linkHelper.createSelfLink(carModelDTO.getId())));
+        if (models.getNextCursor() != null) {
+            models.add(linkHelper.createNextLink(manufacturer, models.getNextCursor(), models.getSize(), sort));
+        }
+
+        return ResponseEntity.ok(models);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a model by ID", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
@@ -0,0 +1,107 @@
+package dev.alexcoss.carservice.controller;
+
+import dev.alexcoss.carservice.dto.ImportJobDTO;
+import dev.alexcoss.carservice.dto.ImportRequestDTO;
+import dev.alexcoss.carservice.service.ImportJobService;
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/imports")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Import", description = "Background csv import jobs")
+public class ImportController {
+
+    private final ImportJobService importJobService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import an uploaded csv file", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "import job queued", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportJobDTO.class))),
+        @ApiResponse(responseCode = "401"),
+        @ApiResponse(responseCode = "403"),
+        @ApiResponse(responseCode = "429", description = "import queue is full")
+    })
+    public ResponseEntity<ImportJobDTO> uploadImport(@RequestPart("file") MultipartFile file,
+                                                     @RequestParam(required = false) ImportMode mode,
+                                                     @RequestParam(required = false) Boolean deleteMissing) {
+        return accepted(importJobService.submitUpload(file, mode, deleteMissing));
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Import a csv file from the server import directory", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "import job queued", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportJobDTO.class))),
+        @ApiResponse(responseCode = "400", description = "path is outside of the import directory"),
+        @ApiResponse(responseCode = "401"),
+        @ApiResponse(responseCode = "403"),
+        @ApiResponse(responseCode = "404", description = "file not found"),
+        @ApiResponse(responseCode = "429", description = "import queue is full")
+    })
+    public ResponseEntity<ImportJobDTO> pathImport(@RequestBody @Validated ImportRequestDTO importRequestDTO) {
+        return accepted(importJobService.submitPath(importRequestDTO.getPath(), importRequestDTO.getMode(),
+            importRequestDTO.getDeleteMissing()));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get import job status", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportJobDTO.class))),
+        @ApiResponse(responseCode = "401"),
+        @ApiResponse(responseCode = "403"),
+        @ApiResponse(responseCode = "404", description = "import job not found")
+    })
+    public ResponseEntity<ImportJobDTO> getImport(@PathVariable UUID id) {
+        return ResponseEntity.ok(importJobService.getJob(id));
+    }
+
+    @GetMapping
+    @Operation(summary = "List import jobs", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "401"),
+        @ApiResponse(responseCode = "403")
+    })
+    public ResponseEntity<List<ImportJobDTO>> listOfImports() {
+        return ResponseEntity.ok(importJobService.getJobs());
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Cancel an import job", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "cancellation requested", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportJobDTO.class))),
+        @ApiResponse(responseCode = "401"),
+        @ApiResponse(responseCode = "403"),
+        @ApiResponse(responseCode = "404", description = "import job not found")
+    })
+    public ResponseEntity<ImportJobDTO> cancelImport(@PathVariable UUID id) {
+        return ResponseEntity.accepted().body(importJobService.cancelJob(id));
+    }
+
+    private ResponseEntity<ImportJobDTO> accepted(ImportJobDTO importJobDTO) {
+        URI location = WebMvcLinkBuilder
+            .linkTo(ImportController.class).slash(importJobDTO.getId()).withSelfRel()
+            .toUri();
+
+        return ResponseEntity.accepted().location(location).body(importJobDTO);
+    }
+}
@@ -1,8 +1,12 @@
 package dev.alexcoss.carservice.controller;
 
 import dev.alexcoss.carservice.controller.linkhelper.ManufacturerLinkHelper;
+import dev.alexcoss.carservice.dto.CursorPageDTO;
 import dev.alexcoss.carservice.dto.ProducerDTO;
 import dev.alexcoss.carservice.service.ProducerService;
+import dev.alexcoss.carservice.util.ETags;
+import dev.alexcoss.carservice.util.VersionedId;
+import dev.alexcoss.carservice.util.exception.InvalidCursorException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,12 +17,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortDefault;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 
@@ -35,9 +43,14 @@ public class ManufacturerController {
     @Operation(summary = "Get a manufacturer by ID", tags = {"id"})
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "successful operation", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProducerDTO.class))}),
+        @ApiResponse(responseCode = "304", description = "manufacturer not modified"),
         @ApiResponse(responseCode = "404", description = "manufacturer not found")
     })
-    public ResponseEntity<ProducerDTO> getProducer(@PathVariable Long id) {
+    public ResponseEntity<ProducerDTO> getProducer(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(producerService.getProducerETag(id))) {
+            return null;
+        }
+
         ProducerDTO producerDTO = producerService.getProducerById(id);
         producerDTO.add(linkHelper.createSelfLink(id));
         producerDTO.add(linkHelper.createManufacturersLink());
@@ -83,18 +96,75 @@ public class ManufacturerController {
     @GetMapping
     @Operation(summary = "List all manufacturers")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "successful operation")
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "304", description = "page not modified")
     })
-    public ResponseEntity<Page<ProducerDTO>> listOfProducers(Pageable pageable) {
-        Page<ProducerDTO> producers = producerService.getListOfProducers(pageable);
+    public ResponseEntity<Page<ProducerDTO>> listOfProducers(Pageable pageable, WebRequest request) {
+        Page<VersionedId> producerIds = producerService.getProducerVersions(pageable);
+        if (request.checkNotModified(ETags.ofPage(producerIds, VersionedId::id, VersionedId::eTag))) {
+            return null;
+        }
+        Page<ProducerDTO> producers = producerService.getProducers(producerIds);
+        Link manufacturersLink = linkHelper.createManufacturersLink(pageable);
         producers.forEach(producerDTO -> {
             producerDTO.add(linkHelper.createSelfLink(producerDTO.getId()));
-            producerDTO.add(linkHelper.createManufacturersLink(pageable));
+            producerDTO.add(manufacturersLink);
         });
 
         return ResponseEntity.ok(producers);
     }
 
+    @GetMapping(params = {"search", "!after"})
+    @Operation(summary = "Search manufacturers by name", description = "Prefix and fuzzy trigram match on the name, ranked by word similarity")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "304", description = "page not modified"),
+        @ApiResponse(responseCode = "400", description = "sort is not supported")
+    })
+    public ResponseEntity<Page<ProducerDTO>> searchProducers(@RequestParam String search, Pageable pageable, WebRequest request) {
+        Page<VersionedId> producerIds = producerService.searchProducerVersions(search, pageable);
+        if (request.checkNotModified(ETags.ofPage(producerIds, VersionedId::id, VersionedId::eTag))) {
+            return null;
+        }
+        Page<ProducerDTO> producers = producerService.getProducers(producerIds);
+        Link manufacturersLink = linkHelper.createSearchLink(search, pageable);
+        producers.forEach(producerDTO -> {
+            producerDTO.add(linkHelper.createSelfLink(producerDTO.getId()));
+            producerDTO.add(manufacturersLink);
+        });
+
+        return ResponseEntity.ok(producers);
+    }
+
+    @GetMapping(params = "after")
+    @Operation(summary = "List manufacturers with keyset pagination", description = "Pass an empty `after` to get the first page, then the `nextCursor` of the previous page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation"),
+        @ApiResponse(responseCode = "304", description = "page not modified"),
+        @ApiResponse(responseCode = "400", description = "invalid cursor or sort, or combined with search")
+    })
+    public ResponseEntity<CursorPageDTO<ProducerDTO>> listOfProducersAfter(@RequestParam(required = false) String search,
+                                                                          @RequestParam String after,
+                                                                          @RequestParam(defaultValue = "10") int size,
+                                                                          @SortDefault(sort = "id") Sort sort,
+                                                                          WebRequest request) {
+        if (search != null) {
+            throw new InvalidCursorException("Manufacturer search results cannot be paged with a cursor, use page and size instead");
+        }
+        CursorPageDTO<VersionedId> producerIds = producerService.getProducerVersionsAfter(after, size, sort);
+        if (request.checkNotModified(ETags.ofPage(producerIds, VersionedId::id, VersionedId::eTag))) {
+            return null;
+        }
+        CursorPageDTO<ProducerDTO> producers = producerService.getProducers(producerIds);
+
+        producers.getContent().forEach(producerDTO -> producerDTO.add(linkHelper.createSelfLink(producerDTO.getId())));
+        if (producers.getNextCursor() != null) {
+            producers.add(linkHelper.createNextLink(producers.getNextCursor(), producers.getSize(), sort));
+        }
+
+        return ResponseEntity.ok(producers);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a manufacturer by ID", tags = {"id"}, security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
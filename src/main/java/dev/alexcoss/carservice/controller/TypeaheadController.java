@@ -0,0 +1,34 @@
+package dev.alexcoss.carservice.controller;
+
+import dev.alexcoss.carservice.dto.TypeaheadDTO;
+import dev.alexcoss.carservice.service.TypeaheadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/typeahead")
+@RequiredArgsConstructor
+@Tag(name = "Typeahead", description = "Autocomplete for manufacturer and model names")
+public class TypeaheadController {
+
+    private final TypeaheadService typeaheadService;
+
+    @GetMapping
+    @Operation(summary = "Complete manufacturer and model names", description = "Matches the start of the name or of any word in it from an in-memory index, without a database query")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "successful operation", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TypeaheadDTO.class)))
+    })
+    public ResponseEntity<TypeaheadDTO> suggest(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(typeaheadService.suggest(prefix, limit));
+    }
+}
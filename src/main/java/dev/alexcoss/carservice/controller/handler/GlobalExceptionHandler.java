@@ -2,10 +2,23 @@ package dev.alexcoss.carservice.controller.handler;
 
 import dev.alexcoss.carservice.dto.ErrorResponse;
 import dev.alexcoss.carservice.util.exception.EntityNotExistException;
+import dev.alexcoss.carservice.util.exception.ExportFailedException;
+import dev.alexcoss.carservice.util.exception.ExportRejectedException;
+import dev.alexcoss.carservice.util.exception.IllegalBatchException;
+import dev.alexcoss.carservice.util.exception.IllegalImportPathException;
+import dev.alexcoss.carservice.util.exception.IllegalReferenceException;
+import dev.alexcoss.carservice.util.exception.IllegalSortException;
+import dev.alexcoss.carservice.util.exception.ImportJobRejectedException;
+import dev.alexcoss.carservice.util.exception.InvalidCursorException;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -23,6 +36,98 @@ public class GlobalExceptionHandler {
         return new ErrorResponse("RESOURCE_NOT_FOUND", ex.getMessage());
     }
 
+    @ExceptionHandler(IllegalImportPathException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ErrorResponse handleIllegalImportPathException(IllegalImportPathException ex) {
+        log.error("Illegal import path: {}", ex.getMessage());
+        return new ErrorResponse("BAD_REQUEST", ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ErrorResponse handleInvalidCursorException(InvalidCursorException ex) {
+        log.error("Invalid cursor: {}", ex.getMessage());
+        return new ErrorResponse("BAD_REQUEST", ex.getMessage());
+    }
+
+    @ExceptionHandler(IllegalBatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ErrorResponse handleIllegalBatchException(IllegalBatchException ex) {
+        log.error("Illegal batch: {}", ex.getMessage());
+        return new ErrorResponse("BAD_REQUEST", ex.getMessage());
+    }
+
+    @ExceptionHandler(IllegalSortException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ErrorResponse handleIllegalSortException(IllegalSortException ex) {
+        log.error("Illegal sort: {}", ex.getMessage());
+        return new ErrorResponse("BAD_REQUEST", ex.getMessage());
+    }
+
+    @ExceptionHandler(IllegalReferenceException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ErrorResponse handleIllegalReferenceException(IllegalReferenceException ex) {
+        log.error("Illegal reference: {}", ex.getMessage());
+        return new ErrorResponse("BAD_REQUEST", ex.getMessage());
+    }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ErrorResponse handleEntityNotFoundException(EntityNotFoundException ex) {
+        log.error("Referenced entity not found: {}", ex.getMessage());
+        return new ErrorResponse("BAD_REQUEST", "Referenced entity does not exist");
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ResponseBody
+    public ErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.error("Concurrent modification: {}", ex.getMessage());
+        return new ErrorResponse("CONFLICT", "Resource was modified concurrently, reload it and try again");
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ResponseBody
+    public ErrorResponse handleDatabaseUnavailableException(RuntimeException ex) {
+        log.error("No database connection: {}", ex.getMessage());
+        return new ErrorResponse("SERVICE_UNAVAILABLE", "Database is busy, try again later");
+    }
+
+    @ExceptionHandler(ImportJobRejectedException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ResponseBody
+    public ErrorResponse handleImportJobRejectedException(ImportJobRejectedException ex) {
+        log.error("Import job rejected: {}", ex.getMessage());
+        return new ErrorResponse("TOO_MANY_REQUESTS", ex.getMessage());
+    }
+
+    @ExceptionHandler(ExportRejectedException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ResponseBody
+    public ErrorResponse handleExportRejectedException(ExportRejectedException ex) {
+        log.error("Export rejected: {}", ex.getMessage());
+        return new ErrorResponse("TOO_MANY_REQUESTS", ex.getMessage());
+    }
+
+    @ExceptionHandler(ExportFailedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ResponseBody
+    public ErrorResponse handleExportFailedException(ExportFailedException ex, HttpServletResponse response) {
+        log.error("Export failed: {}", ex.getMessage());
+        if (response.isCommitted()) {
+            throw ex;
+        }
+        response.reset();
+        return new ErrorResponse("SERVICE_UNAVAILABLE", ex.getMessage());
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     @ResponseBody
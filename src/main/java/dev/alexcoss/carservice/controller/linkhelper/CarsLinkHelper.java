@@ -3,25 +3,41 @@ package dev.alexcoss.carservice.controller.linkhelper;
 import dev.alexcoss.carservice.controller.CarController;
 import dev.alexcoss.carservice.dto.CarFilterDTO;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Component
-public class CarsLinkHelper {
+public class CarsLinkHelper extends ControllerLinkHelper {
+
+    public CarsLinkHelper() {
+        super(CarController.class);
+    }
+
     public Link createSelfLink(Long id) {
-        return WebMvcLinkBuilder.linkTo(methodOn(CarController.class).getCar(id)).withSelfRel();
+        return createItemLink(id);
     }
 
     public Link createCarsLink() {
-        return linkTo(methodOn(CarController.class).listCars(null, null, null, null, null, Pageable.unpaged())).withRel("cars");
+        return linkTo(methodOn(CarController.class).listCars(null, null, null, null, null, Pageable.unpaged(), null)).withRel("cars");
     }
 
     public Link createCarsLink(CarFilterDTO carFilter) {
         return linkTo(methodOn(CarController.class).listCars(carFilter.getManufacturer(), carFilter.getModel(), carFilter.getMinYear(), carFilter.getMaxYear(),
-            carFilter.getCategory(), carFilter.getPageable())).withRel("cars");
+            carFilter.getCategory(), carFilter.getPageable(), null)).withRel("cars");
+    }
+
+    public Link createSearchLink(CarFilterDTO carFilter) {
+        return linkTo(methodOn(CarController.class).searchCars(carFilter.getManufacturer(), carFilter.getModel(), carFilter.getMinYear(),
+            carFilter.getMaxYear(), carFilter.getCategory(), carFilter.getSearch(), carFilter.getPageable(), null)).withRel("cars");
+    }
+
+    public Link createNextLink(CarFilterDTO carFilter, String cursor, int size, Sort sort) {
+        return linkTo(methodOn(CarController.class).listCarsAfter(carFilter.getManufacturer(), carFilter.getModel(), carFilter.getMinYear(),
+            carFilter.getMaxYear(), carFilter.getCategory(), null, cursor, size, sort, null)).withRel(IanaLinkRelations.NEXT);
     }
 }
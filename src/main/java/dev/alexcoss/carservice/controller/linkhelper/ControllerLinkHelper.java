@@ -0,0 +1,36 @@
+package dev.alexcoss.carservice.controller.linkhelper;
+
+import org.springframework.hateoas.Link;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+abstract class ControllerLinkHelper {
+
+    private final Class<?> controller;
+    private final String baseUriAttribute;
+
+    protected ControllerLinkHelper(Class<?> controller) {
+        this.controller = controller;
+        this.baseUriAttribute = ControllerLinkHelper.class.getName() + "." + controller.getName();
+    }
+
+    protected Link createItemLink(Long id) {
+        return Link.of(getBaseUri() + "/" + id).withSelfRel();
+    }
+
+    private String getBaseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return linkTo(controller).toUri().toString();
+        }
+
+        String baseUri = (String) attributes.getAttribute(baseUriAttribute, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = linkTo(controller).toUri().toString();
+            attributes.setAttribute(baseUriAttribute, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+}
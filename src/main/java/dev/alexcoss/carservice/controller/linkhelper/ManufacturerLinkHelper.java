@@ -2,6 +2,8 @@ package dev.alexcoss.carservice.controller.linkhelper;
 
 import dev.alexcoss.carservice.controller.ManufacturerController;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Component;
 
@@ -9,16 +11,29 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Component
-public class ManufacturerLinkHelper {
+public class ManufacturerLinkHelper extends ControllerLinkHelper {
+
+    public ManufacturerLinkHelper() {
+        super(ManufacturerController.class);
+    }
+
     public Link createSelfLink(Long id) {
-        return linkTo(methodOn(ManufacturerController.class).getProducer(id)).withSelfRel();
+        return createItemLink(id);
     }
 
     public Link createManufacturersLink() {
-        return linkTo(methodOn(ManufacturerController.class).listOfProducers(Pageable.unpaged())).withRel("manufacturers");
+        return linkTo(methodOn(ManufacturerController.class).listOfProducers(Pageable.unpaged(), null)).withRel("manufacturers");
     }
 
     public Link createManufacturersLink(Pageable pageable) {
-        return linkTo(methodOn(ManufacturerController.class).listOfProducers(pageable)).withRel("manufacturers");
+        return linkTo(methodOn(ManufacturerController.class).listOfProducers(pageable, null)).withRel("manufacturers");
+    }
+
+    public Link createSearchLink(String search, Pageable pageable) {
+        return linkTo(methodOn(ManufacturerController.class).searchProducers(search, pageable, null)).withRel("manufacturers");
+    }
+
+    public Link createNextLink(String cursor, int size, Sort sort) {
+        return linkTo(methodOn(ManufacturerController.class).listOfProducersAfter(null, cursor, size, sort, null)).withRel(IanaLinkRelations.NEXT);
     }
 }
@@ -2,6 +2,8 @@ package dev.alexcoss.carservice.controller.linkhelper;
 
 import dev.alexcoss.carservice.controller.CarModelController;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Component;
 
@@ -9,16 +11,29 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Component
-public class ModelLinkHelper {
+public class ModelLinkHelper extends ControllerLinkHelper {
+
+    public ModelLinkHelper() {
+        super(CarModelController.class);
+    }
+
     public Link createSelfLink(Long id) {
-        return linkTo(methodOn(CarModelController.class).getCarModel(id)).withSelfRel();
+        return createItemLink(id);
     }
 
     public Link createModelsLink() {
-        return linkTo(methodOn(CarModelController.class).listCarModels(null, Pageable.unpaged())).withRel("models");
+        return linkTo(methodOn(CarModelController.class).listCarModels(null, Pageable.unpaged(), null)).withRel("models");
     }
 
     public Link createModelsLink(String manufacturer, Pageable pageable) {
-        return linkTo(methodOn(CarModelController.class).listCarModels(manufacturer, pageable)).withRel("models");
+        return linkTo(methodOn(CarModelController.class).listCarModels(manufacturer, pageable, null)).withRel("models");
+    }
+
+    public Link createSearchLink(String search, Pageable pageable) {
+        return linkTo(methodOn(CarModelController.class).searchCarModels(search, pageable, null)).withRel("models");
+    }
+
+    public Link createNextLink(String manufacturer, String cursor, int size, Sort sort) {
+        return linkTo(methodOn(CarModelController.class).listCarModelsAfter(manufacturer, null, cursor, size, sort, null)).withRel(IanaLinkRelations.NEXT);
     }
 }
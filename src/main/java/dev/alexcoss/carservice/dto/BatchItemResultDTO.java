@@ -0,0 +1,20 @@
+package dev.alexcoss.carservice.dto;
+
+import dev.alexcoss.carservice.service.batch.BatchItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "outcome of a single batch item")
+public class BatchItemResultDTO {
+    private int index;
+    private Long id;
+    private BatchItemStatus status;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package dev.alexcoss.carservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "per-item outcome of a batch request")
+public class BatchResultDTO {
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResultDTO> items;
+}
@@ -1,5 +1,6 @@
 package dev.alexcoss.carservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -17,6 +18,9 @@ import java.util.Set;
 @Schema(description = "car information")
 public class CarDTO extends RepresentationModel<CarDTO> {
     private Long id;
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
     private String objectId;
     @Pattern(regexp = "^\\d{4}$")
     private String year;
@@ -0,0 +1,16 @@
+package dev.alexcoss.carservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "car counts per manufacturer, model, category and year for a search")
+public record CarFacetsDTO(
+    long total,
+    List<FacetCountDTO> manufacturers,
+    List<FacetCountDTO> models,
+    List<FacetCountDTO> categories,
+    List<FacetCountDTO> years,
+    Instant indexedAt) {
+}
@@ -16,5 +16,6 @@ public class CarFilterDTO {
     private Integer minYear;
     private Integer maxYear;
     private String category;
+    private String search;
     private Pageable pageable;
 }
@@ -1,5 +1,6 @@
 package dev.alexcoss.carservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -13,6 +14,9 @@ import org.springframework.hateoas.RepresentationModel;
 @Schema(description = "car model information")
 public class CarModelDTO extends RepresentationModel<CarModelDTO> {
     private Long id;
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
     @NotNull
     @Schema(description = "car model name", example = "A3")
     private String name;
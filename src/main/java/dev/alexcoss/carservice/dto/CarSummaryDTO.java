@@ -0,0 +1,15 @@
+package dev.alexcoss.carservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "flat car summary")
+public record CarSummaryDTO(
+    Long id,
+    String objectId,
+    String year,
+    String model,
+    String manufacturer,
+    List<String> categories) {
+}
@@ -0,0 +1,22 @@
+package dev.alexcoss.carservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@Builder
+@Schema(description = "keyset paginated result")
+public class CursorPageDTO<T> extends RepresentationModel<CursorPageDTO<T>> {
+    @Builder.Default
+    private List<T> content = new ArrayList<>();
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
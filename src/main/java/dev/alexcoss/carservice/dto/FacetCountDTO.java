@@ -0,0 +1,9 @@
+package dev.alexcoss.carservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "number of matching cars with a facet value")
+public record FacetCountDTO(
+    String value,
+    long count) {
+}
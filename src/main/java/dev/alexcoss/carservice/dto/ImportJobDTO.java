@@ -0,0 +1,34 @@
+package dev.alexcoss.carservice.dto;
+
+import dev.alexcoss.carservice.service.csv.ImportJobStatus;
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "csv import job status")
+public class ImportJobDTO {
+    private UUID id;
+    private ImportJobStatus status;
+    private String fileName;
+    private ImportMode mode;
+    private boolean deleteMissing;
+    private long rowsDone;
+    private Long totalRows;
+    private long rowsPerSecond;
+    private Long etaSeconds;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private ImportReportDTO report;
+    private String error;
+}
@@ -0,0 +1,19 @@
+package dev.alexcoss.carservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "csv import result")
+public class ImportReportDTO {
+    private long inserted;
+    private long updated;
+    private long unchanged;
+    private long deleted;
+}
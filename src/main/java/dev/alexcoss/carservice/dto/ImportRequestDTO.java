@@ -0,0 +1,22 @@
+package dev.alexcoss.carservice.dto;
+
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "import of a csv file from the server import directory")
+public class ImportRequestDTO {
+    @NotBlank
+    private String path;
+    private ImportMode mode;
+    @Schema(description = "delete cars missing from the file, only applies to SYNC mode")
+    private Boolean deleteMissing;
+}
@@ -1,5 +1,6 @@
 package dev.alexcoss.carservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -15,6 +16,10 @@ public class ProducerDTO extends RepresentationModel<ProducerDTO> {
     @Schema(hidden = true)
     private Long id;
 
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
+
     @NotNull
     @Schema(description = "name of manufacturer", example = "Audi")
     private String name;
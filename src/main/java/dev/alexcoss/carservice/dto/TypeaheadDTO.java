@@ -0,0 +1,11 @@
+package dev.alexcoss.carservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "manufacturer and model names completing a typed prefix")
+public record TypeaheadDTO(
+    List<TypeaheadSuggestionDTO> manufacturers,
+    List<TypeaheadSuggestionDTO> models) {
+}
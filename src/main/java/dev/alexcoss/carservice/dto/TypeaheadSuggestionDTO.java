@@ -0,0 +1,10 @@
+package dev.alexcoss.carservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "manufacturer or model name completing a typed prefix")
+public record TypeaheadSuggestionDTO(
+    Long id,
+    String name,
+    @Schema(description = "manufacturer of a suggested model") String manufacturer) {
+}
@@ -0,0 +1,82 @@
+package dev.alexcoss.carservice.mapper;
+
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CategoryDTO;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.util.exception.IllegalReferenceException;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class CarMapper {
+
+    private final CarModelMapper carModelMapper;
+    private final CategoryMapper categoryMapper;
+    private final EntityManager entityManager;
+
+    public CarDTO toDTO(Car car) {
+        if (car == null) {
+            return null;
+        }
+        return CarDTO.builder()
+            .id(car.getId())
+            .version(car.getVersion())
+            .objectId(car.getObjectId())
+            .year(car.getYear())
+            .carModel(carModelMapper.toDTO(car.getCarModel()))
+            .categories(categoryMapper.toDTOs(car.getCategories()))
+            .build();
+    }
+
+    public Car toEntity(CarDTO carDTO) {
+        if (carDTO == null) {
+            return null;
+        }
+        return Car.builder()
+            .id(carDTO.getId())
+            .objectId(carDTO.getObjectId())
+            .year(carDTO.getYear())
+            .carModel(carModelMapper.toEntity(carDTO.getCarModel()))
+            .categories(categoryMapper.toEntities(carDTO.getCategories()))
+            .build();
+    }
+
+    public void merge(CarDTO carDTO, Car car) {
+        if (carDTO.getObjectId() != null) {
+            car.setObjectId(carDTO.getObjectId());
+        }
+        if (carDTO.getYear() != null) {
+            car.setYear(carDTO.getYear());
+        }
+        if (carDTO.getCarModel() != null) {
+            Long carModelId = carDTO.getCarModel().getId();
+            if (carModelId == null) {
+                throw new IllegalReferenceException("Car model id is required");
+            }
+            if (car.getCarModel() == null || !carModelId.equals(car.getCarModel().getId())) {
+                car.setCarModel(entityManager.getReference(CarModel.class, carModelId));
+            }
+        }
+        if (carDTO.getCategories() != null && !carDTO.getCategories().isEmpty()) {
+            car.setCategories(toCategoryReferences(carDTO.getCategories()));
+        }
+    }
+
+    private Set<Category> toCategoryReferences(Set<CategoryDTO> categoryDTOs) {
+        Set<Category> categories = new HashSet<>();
+        for (CategoryDTO categoryDTO : categoryDTOs) {
+            if (categoryDTO == null || categoryDTO.getId() == null) {
+                throw new IllegalReferenceException("Category id is required");
+            }
+            categories.add(entityManager.getReference(Category.class, categoryDTO.getId()));
+        }
+        return categories;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.alexcoss.carservice.mapper;
+
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.util.exception.IllegalReferenceException;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CarModelMapper {
+
+    private final ProducerMapper producerMapper;
+    private final EntityManager entityManager;
+
+    public CarModelDTO toDTO(CarModel carModel) {
+        if (carModel == null) {
+            return null;
+        }
+        return CarModelDTO.builder()
+            .id(carModel.getId())
+            .version(carModel.getVersion())
+            .name(carModel.getName())
+            .producer(producerMapper.toDTO(carModel.getProducer()))
+            .build();
+    }
+
+    public CarModel toEntity(CarModelDTO carModelDTO) {
+        if (carModelDTO == null) {
+            return null;
+        }
+        return CarModel.builder()
+            .id(carModelDTO.getId())
+            .name(carModelDTO.getName())
+            .producer(producerMapper.toEntity(carModelDTO.getProducer()))
+            .build();
+    }
+
+    public void merge(CarModelDTO carModelDTO, CarModel carModel) {
+        if (carModelDTO.getName() != null) {
+            carModel.setName(carModelDTO.getName());
+        }
+        if (carModelDTO.getProducer() != null) {
+            Long producerId = carModelDTO.getProducer().getId();
+            if (producerId == null) {
+                throw new IllegalReferenceException("Producer id is required");
+            }
+            if (carModel.getProducer() == null || !producerId.equals(carModel.getProducer().getId())) {
+                carModel.setProducer(entityManager.getReference(Producer.class, producerId));
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package dev.alexcoss.carservice.mapper;
+
+import dev.alexcoss.carservice.dto.CategoryDTO;
+import dev.alexcoss.carservice.model.Category;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+public class CategoryMapper {
+
+    public CategoryDTO toDTO(Category category) {
+        if (category == null) {
+            return null;
+        }
+        return CategoryDTO.builder()
+            .id(category.getId())
+            .name(category.getName())
+            .build();
+    }
+
+    public Category toEntity(CategoryDTO categoryDTO) {
+        if (categoryDTO == null) {
+            return null;
+        }
+        return Category.builder()
+            .id(categoryDTO.getId())
+            .name(categoryDTO.getName())
+            .build();
+    }
+
+    public Set<CategoryDTO> toDTOs(Set<Category> categories) {
+        Set<CategoryDTO> categoryDTOs = new HashSet<>();
+        if (categories != null) {
+            for (Category category : categories) {
+                categoryDTOs.add(toDTO(category));
+            }
+        }
+        return categoryDTOs;
+    }
+
+    public Set<Category> toEntities(Set<CategoryDTO> categoryDTOs) {
+        Set<Category> categories = new HashSet<>();
+        if (categoryDTOs != null) {
+            for (CategoryDTO categoryDTO : categoryDTOs) {
+                categories.add(toEntity(categoryDTO));
+            }
+        }
+        return categories;
+    }
+}
@@ -0,0 +1,36 @@
+package dev.alexcoss.carservice.mapper;
+
+import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.model.Producer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProducerMapper {
+
+    public ProducerDTO toDTO(Producer producer) {
+        if (producer == null) {
+            return null;
+        }
+        return ProducerDTO.builder()
+            .id(producer.getId())
+            .version(producer.getVersion())
+            .name(producer.getName())
+            .build();
+    }
+
+    public Producer toEntity(ProducerDTO producerDTO) {
+        if (producerDTO == null) {
+            return null;
+        }
+        return Producer.builder()
+            .id(producerDTO.getId())
+            .name(producerDTO.getName())
+            .build();
+    }
+
+    public void merge(ProducerDTO producerDTO, Producer producer) {
+        if (producerDTO.getName() != null) {
+            producer.setName(producerDTO.getName());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package dev.alexcoss.carservice.model;
+
+import java.util.List;
+
+public final class CacheRegions {
+
+    public static final String PRODUCERS = "car.producer";
+    public static final String CAR_MODELS = "car.model";
+    public static final String CATEGORIES = "car.category";
+    public static final String CAR_CATEGORIES = "car.car.categories";
+
+    public static final List<String> ENTITY_REGIONS = List.of(PRODUCERS, CAR_MODELS, CATEGORIES, CAR_CATEGORIES);
+
+    private CacheRegions() {
+    }
+}
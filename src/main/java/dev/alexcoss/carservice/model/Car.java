@@ -7,6 +7,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.HashSet;
@@ -22,9 +24,13 @@ import java.util.Set;
 public class Car {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "car_id_seq")
+    @SequenceGenerator(name = "car_id_seq", schema = "car", sequenceName = "car_id_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private long version;
+
     @Column(name = "object_id")
     private String objectId;
 
@@ -32,11 +38,15 @@ public class Car {
     @Pattern(regexp = "^\\d{4}$")
     private String year;
 
-    @OneToOne
+    @Column(name = "year_number", insertable = false, updatable = false)
+    private Integer yearNumber;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "model_id")
     private CarModel carModel;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CAR_CATEGORIES)
     @JoinTable(
         name = "car_category", schema = "car",
         joinColumns = @JoinColumn(name = "car_id"),
@@ -44,4 +54,7 @@ public class Car {
     )
     @Builder.Default
     private Set<Category> categories = new HashSet<>();
+
+    @Column(name = "content_hash")
+    private String contentHash;
 }
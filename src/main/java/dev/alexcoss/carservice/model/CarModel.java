@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicUpdate;
 
 @Data
@@ -14,13 +16,19 @@ import org.hibernate.annotations.DynamicUpdate;
 @DynamicUpdate
 @Entity
 @Table(schema = "car", name = "model")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CAR_MODELS)
 @Builder
 public class CarModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "model_model_id_seq")
+    @SequenceGenerator(name = "model_model_id_seq", schema = "car", sequenceName = "model_model_id_seq", allocationSize = 50)
     @Column(name = "model_id")
     private Long id;
 
+    @Version
+    private long version;
+
     @NotNull
     private String name;
 
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicUpdate;
 
 @Data
@@ -14,13 +16,19 @@ import org.hibernate.annotations.DynamicUpdate;
 @DynamicUpdate
 @Entity
 @Table(schema = "car", name = "producer")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCERS)
 @Builder
 public class Producer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "producer_producer_id_seq")
+    @SequenceGenerator(name = "producer_producer_id_seq", schema = "car", sequenceName = "producer_producer_id_seq", allocationSize = 50)
     @Column(name = "producer_id")
     private Long id;
 
+    @Version
+    private long version;
+
     @NotNull
     @Column(unique = true, nullable = false)
     private String name;
@@ -0,0 +1,83 @@
+package dev.alexcoss.carservice.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+@Repository
+@Timed("repository.calls")
+@RequiredArgsConstructor
+public class CarFacetRepository {
+
+    public static final int NO_VALUE = -1;
+
+    private static final String SELECT_MODELS = """
+        SELECT m.model_id, m.name, p.name AS producer
+        FROM car.model m
+                 LEFT JOIN car.producer p ON p.producer_id = m.producer_id
+        """;
+    private static final String SELECT_CATEGORIES = "SELECT category_id, name FROM car.category";
+    private static final String SELECT_CARS = "SELECT id, model_id, year_number FROM car.car ORDER BY id";
+    private static final String SELECT_CAR_CATEGORIES = "SELECT car_id, category_id FROM car.car_category";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ModelName> findModelNames() {
+        return jdbcTemplate.query(SELECT_MODELS,
+            (rs, rowNum) -> new ModelName(rs.getLong("model_id"), rs.getString("name"), rs.getString("producer")));
+    }
+
+    public List<CategoryName> findCategoryNames() {
+        return jdbcTemplate.query(SELECT_CATEGORIES,
+            (rs, rowNum) -> new CategoryName(rs.getLong("category_id"), rs.getString("name")));
+    }
+
+    public void streamCars(int fetchSize, CarRowConsumer consumer) {
+        stream(SELECT_CARS, fetchSize, rs -> {
+            long id = rs.getLong(1);
+            long modelId = rs.getLong(2);
+            if (rs.wasNull()) {
+                modelId = NO_VALUE;
+            }
+            int year = rs.getInt(3);
+            if (rs.wasNull()) {
+                year = NO_VALUE;
+            }
+            consumer.accept(id, modelId, year);
+        });
+    }
+
+    public void streamCarCategories(int fetchSize, CarCategoryConsumer consumer) {
+        stream(SELECT_CAR_CATEGORIES, fetchSize, rs -> consumer.accept(rs.getLong(1), rs.getLong(2)));
+    }
+
+    private void stream(String sql, int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, handler);
+    }
+
+    public record ModelName(long id, String name, String producer) {
+    }
+
+    public record CategoryName(long id, String name) {
+    }
+
+    @FunctionalInterface
+    public interface CarRowConsumer {
+        void accept(long id, long modelId, int year);
+    }
+
+    @FunctionalInterface
+    public interface CarCategoryConsumer {
+        void accept(long carId, long categoryId);
+    }
+}
@@ -0,0 +1,230 @@
+package dev.alexcoss.carservice.repository;
+
+import dev.alexcoss.carservice.dto.ImportReportDTO;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.Category;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+@Timed("repository.calls")
+@RequiredArgsConstructor
+public class CarJdbcRepository {
+
+    private static final String CAR_CATEGORIES_ROLE = Car.class.getName() + ".categories";
+
+    private static final String CAR_ID_SEQUENCE = "car.car_id_seq";
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String COPY_CARS = "COPY car.car (id, object_id, year, model_id) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_CAR_CATEGORIES = "COPY car.car_category (car_id, category_id) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String DELETE_CARS = "DELETE FROM car.car WHERE id = ANY(?) RETURNING id";
+
+    private static final String CREATE_SYNC_STAGE = """
+        CREATE TEMP TABLE car_sync_stage (
+            line         BIGINT GENERATED ALWAYS AS IDENTITY,
+            object_id    VARCHAR(255),
+            year         VARCHAR(4),
+            model_id     BIGINT,
+            category_ids BIGINT[]
+        ) ON COMMIT DROP
+        """;
+    private static final String COPY_SYNC_STAGE =
+        "COPY car_sync_stage (object_id, year, model_id, category_ids) FROM STDIN WITH (FORMAT csv)";
+    private static final String CREATE_SYNC_DELTA = """
+        CREATE TEMP TABLE car_sync_delta ON COMMIT DROP AS
+        SELECT s.object_id, s.year, s.model_id, s.category_ids, s.content_hash, c.id AS car_id,
+               CASE WHEN c.id IS NULL THEN row_number() OVER (PARTITION BY c.id IS NULL ORDER BY s.object_id) END AS new_row
+        FROM (SELECT DISTINCT ON (object_id) object_id, year, model_id, category_ids,
+                     car.car_content_hash(year, model_id, category_ids) AS content_hash
+              FROM car_sync_stage
+              ORDER BY object_id, line DESC) s
+                 LEFT JOIN car.car c ON c.object_id = s.object_id
+        WHERE c.content_hash IS DISTINCT FROM s.content_hash
+        """;
+    private static final String UPSERT_SYNC_DELTA = """
+        WITH upserted AS (
+            INSERT INTO car.car AS c (id, object_id, year, model_id, content_hash)
+                SELECT COALESCE(d.car_id, (?::bigint[])[d.new_row]), d.object_id, d.year, d.model_id, d.content_hash
+                FROM car_sync_delta d
+                ON CONFLICT (object_id) DO UPDATE
+                    SET year = EXCLUDED.year, model_id = EXCLUDED.model_id, content_hash = EXCLUDED.content_hash,
+                        version = c.version + 1
+                    WHERE c.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+                RETURNING (xmax = 0) AS inserted)
+        SELECT count(*) FILTER (WHERE inserted) AS inserted, count(*) FILTER (WHERE NOT inserted) AS updated
+        FROM upserted
+        """;
+    private static final String DELETE_SYNC_DELTA_CATEGORIES =
+        "DELETE FROM car.car_category cc USING car_sync_delta d WHERE cc.car_id = d.car_id";
+    private static final String INSERT_SYNC_DELTA_CATEGORIES = """
+        INSERT INTO car.car_category (car_id, category_id)
+        SELECT c.id, unnest(d.category_ids)
+        FROM car_sync_delta d
+                 JOIN car.car c ON c.object_id = d.object_id
+        ON CONFLICT DO NOTHING
+        """;
+    private static final String DELETE_MISSING_CARS = """
+        DELETE FROM car.car c
+        WHERE c.object_id IS NOT NULL
+          AND NOT EXISTS (SELECT 1 FROM car_sync_stage s WHERE s.object_id = c.object_id)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void copyCars(List<Car> cars) {
+        if (cars.isEmpty()) {
+            return;
+        }
+        assignIds(cars);
+
+        StringBuilder carRows = new StringBuilder(cars.size() * 48);
+        StringBuilder categoryRows = new StringBuilder(cars.size() * 24);
+        for (Car car : cars) {
+            carRows.append(car.getId()).append(',')
+                .append(escape(car.getObjectId())).append(',')
+                .append(escape(car.getYear())).append(',')
+                .append(car.getCarModel() == null ? "" : car.getCarModel().getId()).append('\n');
+
+            for (Category category : car.getCategories()) {
+                categoryRows.append(car.getId()).append(',').append(category.getId()).append('\n');
+            }
+        }
+
+        copyIn(COPY_CARS, carRows);
+        copyIn(COPY_CAR_CATEGORIES, categoryRows);
+    }
+
+    public List<Long> deleteCars(List<Long> ids) {
+        List<Long> deleted = jdbcTemplate.query(DELETE_CARS,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+            (rs, rowNum) -> rs.getLong(1));
+        evictCarCategories(cache -> deleted.forEach(id -> cache.evictCollectionData(CAR_CATEGORIES_ROLE, id)));
+        return deleted;
+    }
+
+    public void createSyncStage() {
+        jdbcTemplate.execute(CREATE_SYNC_STAGE);
+    }
+
+    public void copyToSyncStage(List<Car> cars) {
+        StringBuilder rows = new StringBuilder(cars.size() * 48);
+        for (Car car : cars) {
+            rows.append(escape(car.getObjectId())).append(',')
+                .append(escape(car.getYear())).append(',')
+                .append(car.getCarModel() == null ? "" : car.getCarModel().getId()).append(',')
+                .append(categoryIdsLiteral(car)).append('\n');
+        }
+        copyIn(COPY_SYNC_STAGE, rows);
+    }
+
+    public ImportReportDTO mergeSyncStage(boolean deleteMissing) {
+        jdbcTemplate.execute("ANALYZE car_sync_stage");
+        jdbcTemplate.execute(CREATE_SYNC_DELTA);
+
+        Long received = jdbcTemplate.queryForObject("SELECT count(DISTINCT object_id) FROM car_sync_stage", Long.class);
+        Integer newCars = jdbcTemplate.queryForObject("SELECT count(*) FROM car_sync_delta WHERE car_id IS NULL", Integer.class);
+        Long[] newIds = allocateIds(newCars).toArray(Long[]::new);
+
+        ImportReportDTO report = jdbcTemplate.query(UPSERT_SYNC_DELTA,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", newIds)),
+            rs -> {
+                rs.next();
+                return ImportReportDTO.builder()
+                    .inserted(rs.getLong("inserted"))
+                    .updated(rs.getLong("updated"))
+                    .build();
+            });
+        jdbcTemplate.update(DELETE_SYNC_DELTA_CATEGORIES);
+        jdbcTemplate.update(INSERT_SYNC_DELTA_CATEGORIES);
+        evictCarCategories(cache -> cache.evictCollectionData(CAR_CATEGORIES_ROLE));
+
+        report.setUnchanged(received - report.getInserted() - report.getUpdated());
+        report.setDeleted(deleteMissing ? jdbcTemplate.update(DELETE_MISSING_CARS) : 0);
+        return report;
+    }
+
+    private void evictCarCategories(Consumer<Cache> eviction) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        eviction.accept(cache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.accept(cache);
+                }
+            });
+        }
+    }
+
+    private void assignIds(List<Car> cars) {
+        Iterator<Long> ids = allocateIds(cars.size()).iterator();
+        for (Car car : cars) {
+            car.setId(ids.next());
+        }
+    }
+
+    private List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        if (count == 0) {
+            return ids;
+        }
+        int blocks = (count + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+        List<Long> highValues = jdbcTemplate.queryForList(
+            "SELECT nextval(?::regclass) FROM generate_series(1, ?)", Long.class, CAR_ID_SEQUENCE, blocks);
+
+        for (Long highValue : highValues) {
+            for (long id = highValue - ID_ALLOCATION_SIZE + 1; id <= highValue && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void copyIn(String sql, CharSequence rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(rows.toString()));
+            } catch (IOException e) {
+                throw new DataAccessResourceFailureException("Cannot stream rows to PostgreSQL", e);
+            }
+        });
+    }
+
+    private static String categoryIdsLiteral(Car car) {
+        StringBuilder literal = new StringBuilder("\"{");
+        car.getCategories().stream()
+            .map(Category::getId)
+            .sorted()
+            .forEach(id -> literal.append(literal.length() > 2 ? "," : "").append(id));
+        return literal.append("}\"").toString();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
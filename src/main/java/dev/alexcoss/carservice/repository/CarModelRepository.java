@@ -1,16 +1,76 @@
 package dev.alexcoss.carservice.repository;
 
 import dev.alexcoss.carservice.model.CarModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CarModelRepository extends JpaRepository<CarModel, Long> {
+public interface CarModelRepository extends JpaRepository<CarModel, Long>, JpaSpecificationExecutor<CarModel> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<CarModel> findByProducerNameAndName(String producerName, String name);
 
-    Page<CarModel> findByProducerName(String producerName, Pageable pageable);
+    @Query("select m.id as id, m.version as version, p.version as producerVersion from CarModel m left join m.producer p")
+    Page<Versions> findVersions(Pageable pageable);
+
+    @Query("""
+        select m.id as id, m.version as version, p.version as producerVersion
+        from CarModel m left join m.producer p
+        where m.id = :id
+        """)
+    Optional<Versions> findVersionsById(Long id);
+
+    @Query("""
+        select m.id as id, m.version as version, p.version as producerVersion
+        from CarModel m join m.producer p
+        where p.name = :producerName
+        """)
+    Page<Versions> findVersionsByProducerName(String producerName, Pageable pageable);
+
+    @EntityGraph(attributePaths = "producer")
+    List<CarModel> findByIdIn(Collection<Long> ids);
+
+    List<CarModel> findByProducerNameIn(Collection<String> producerNames);
+
+    @Query("select m.id from CarModel m where m.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("select m.id as id, m.name as name, p.id as producerId from CarModel m left join m.producer p")
+    List<Name> findAllNames();
+
+    @Query(value = """
+        SELECT m.model_id AS id, m.version AS version, p.version AS "producerVersion"
+        FROM car.model m
+                 JOIN car.match_model_names(:search) mm ON mm.model_id = m.model_id
+                 LEFT JOIN car.producer p ON p.producer_id = m.producer_id
+        ORDER BY mm.score DESC, m.name, m.model_id
+        """, countQuery = "SELECT count(*) FROM car.match_model_names(:search)", nativeQuery = true)
+    Page<Versions> searchVersionsByName(String search, Pageable pageable);
+
+    interface Name {
+        Long getId();
+
+        String getName();
+
+        Long getProducerId();
+    }
+
+    interface Versions {
+        Long getId();
+
+        Long getVersion();
+
+        Long getProducerVersion();
+    }
 }
@@ -0,0 +1,12 @@
+package dev.alexcoss.carservice.repository;
+
+import dev.alexcoss.carservice.model.CarModel;
+import org.springframework.data.jpa.domain.Specification;
+
+public class CarModelSpecification {
+
+    public static Specification<CarModel> hasProducer(String producer) {
+        return (root, query, builder) ->
+            producer == null || producer.isBlank() ? builder.conjunction() : builder.equal(root.get("producer").get("name"), producer);
+    }
+}
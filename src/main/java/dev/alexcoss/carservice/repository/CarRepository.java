@@ -1,10 +1,55 @@
 package dev.alexcoss.carservice.repository;
 
 import dev.alexcoss.carservice.model.Car;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificationExecutor<Car> {
+public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificationExecutor<Car>, CarRepositoryCustom {
+
+    @EntityGraph(attributePaths = {"carModel", "carModel.producer", "categories"})
+    List<Car> findByIdIn(Collection<Long> ids);
+
+    @Query("""
+        select c.id as id, c.version as version, m.version as modelVersion, p.version as producerVersion
+        from Car c left join c.carModel m left join m.producer p
+        where c.id = :id
+        """)
+    Optional<Versions> findVersionsById(Long id);
+
+    @Query("""
+        select c.id as id, c.version as version, m.version as modelVersion, p.version as producerVersion
+        from Car c left join c.carModel m left join m.producer p
+        where c.id in :ids
+        """)
+    List<Versions> findVersionsByIdIn(Collection<Long> ids);
+
+    @Query("select c.id from Car c where c.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("select c.id as id, c.objectId as objectId from Car c where c.objectId in :objectIds")
+    List<ObjectIdOwner> findObjectIdOwners(Collection<String> objectIds);
+
+    interface Versions {
+        Long getId();
+
+        Long getVersion();
+
+        Long getModelVersion();
+
+        Long getProducerVersion();
+    }
+
+    interface ObjectIdOwner {
+        Long getId();
+
+        String getObjectId();
+    }
 }
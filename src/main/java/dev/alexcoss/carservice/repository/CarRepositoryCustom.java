@@ -0,0 +1,11 @@
+package dev.alexcoss.carservice.repository;
+
+import dev.alexcoss.carservice.model.Car;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface CarRepositoryCustom {
+
+    Page<Long> findIds(Specification<Car> spec, Pageable pageable);
+}
@@ -0,0 +1,62 @@
+package dev.alexcoss.carservice.repository;
+
+import dev.alexcoss.carservice.model.Car;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CarRepositoryImpl implements CarRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Long> findIds(Specification<Car> spec, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Car> root = query.from(Car.class);
+        query.select(root.get("id"));
+        applySpecification(spec, root, query, builder);
+        query.orderBy(QueryUtils.toOrders(CarSortProperty.toEntitySort(pageable.getSort()), root, builder));
+
+        TypedQuery<Long> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Long> ids = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(ids, pageable, () -> count(spec));
+    }
+
+    private long count(Specification<Car> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Car> root = query.from(Car.class);
+        applySpecification(spec, root, query, builder);
+        query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void applySpecification(Specification<Car> spec, Root<Car> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
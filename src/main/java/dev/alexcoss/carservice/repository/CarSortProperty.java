@@ -0,0 +1,35 @@
+package dev.alexcoss.carservice.repository;
+
+import dev.alexcoss.carservice.util.exception.IllegalSortException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum CarSortProperty {
+    ID("id", "id", "c.id"),
+    OBJECT_ID("objectId", "objectId", "c.object_id"),
+    YEAR("year", "yearNumber", "c.year_number"),
+    MODEL("model", "carModel.name", "m.name"),
+    MANUFACTURER("manufacturer", "carModel.producer.name", "p.name");
+
+    private final String property;
+    private final String path;
+    private final String column;
+
+    public static CarSortProperty of(String property) {
+        return Arrays.stream(values())
+            .filter(value -> value.property.equals(property))
+            .findFirst()
+            .orElseThrow(() -> new IllegalSortException("Cannot sort cars by " + property));
+    }
+
+    public static Sort toEntitySort(Sort sort) {
+        return Sort.by(sort.stream()
+            .map(order -> order.withProperty(of(order.getProperty()).getPath()))
+            .toList());
+    }
+}
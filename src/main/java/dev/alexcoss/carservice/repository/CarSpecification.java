@@ -19,12 +19,12 @@ public class CarSpecification {
 
     public static Specification<Car> hasYearGreaterThanOrEqualTo(Integer minYear) {
         return (root, query, builder) ->
-            minYear == null ? builder.conjunction() : builder.greaterThanOrEqualTo(root.get("year"), minYear.toString());
+            minYear == null ? builder.conjunction() : builder.greaterThanOrEqualTo(root.get("yearNumber"), minYear);
     }
 
     public static Specification<Car> hasYearLessThanOrEqualTo(Integer maxYear) {
         return (root, query, builder) ->
-            maxYear == null ? builder.conjunction() : builder.lessThanOrEqualTo(root.get("year"), maxYear.toString());
+            maxYear == null ? builder.conjunction() : builder.lessThanOrEqualTo(root.get("yearNumber"), maxYear);
     }
 
     public static Specification<Car> hasCategory(String category) {
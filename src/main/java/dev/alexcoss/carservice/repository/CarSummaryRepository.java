@@ -0,0 +1,159 @@
+package dev.alexcoss.carservice.repository;
+
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.dto.CarSummaryDTO;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+@Timed("repository.calls")
+@RequiredArgsConstructor
+public class CarSummaryRepository {
+
+    private static final String SELECT_SUMMARIES = """
+        SELECT c.id, c.object_id, c.year, m.name AS model, p.name AS manufacturer,
+               (SELECT array_agg(cat.name ORDER BY cat.name)
+                FROM car.car_category cc
+                         JOIN car.category cat ON cat.category_id = cc.category_id
+                WHERE cc.car_id = c.id) AS categories
+        """;
+    private static final String SELECT_IDS = "SELECT c.id ";
+    private static final String COUNT_SUMMARIES = "SELECT count(*)";
+    private static final String FROM_CARS = """
+        FROM car.car c
+                 LEFT JOIN car.model m ON m.model_id = c.model_id
+                 LEFT JOIN car.producer p ON p.producer_id = m.producer_id
+        """;
+    private static final String NAME_MATCHES = """
+                 JOIN car.match_model_names(?) mm ON mm.model_id = c.model_id
+        """;
+    private static final String CATEGORY_FILTER = """
+        AND EXISTS (SELECT 1
+                    FROM car.car_category cc
+                             JOIN car.category cat ON cat.category_id = cc.category_id
+                    WHERE cc.car_id = c.id
+                      AND cat.name = ?)
+        """;
+
+    private static final RowMapper<CarSummaryDTO> ROW_MAPPER = (rs, rowNum) -> new CarSummaryDTO(
+        rs.getLong("id"),
+        rs.getString("object_id"),
+        rs.getString("year"),
+        rs.getString("model"),
+        rs.getString("manufacturer"),
+        toList(rs.getArray("categories")));
+
+    private static final RowMapper<Long> ID_MAPPER = (rs, rowNum) -> rs.getLong("id");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Page<CarSummaryDTO> findSummaries(CarFilterDTO carFilterDTO) {
+        return findPage(SELECT_SUMMARIES, ROW_MAPPER, carFilterDTO);
+    }
+
+    public Page<Long> findIds(CarFilterDTO carFilterDTO) {
+        return findPage(SELECT_IDS, ID_MAPPER, carFilterDTO);
+    }
+
+    public void streamSummaries(CarFilterDTO carFilterDTO, int fetchSize, Duration idleTimeout, Consumer<CarSummaryDTO> consumer) {
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT_SUMMARIES + createFrom(carFilterDTO, args) + createWhere(carFilterDTO, args) + " ORDER BY c.id";
+
+        jdbcTemplate.execute("SET LOCAL statement_timeout = " + Math.max(1, idleTimeout.toMillis()));
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            new ArgumentPreparedStatementSetter(args.toArray()).setValues(statement);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(ROW_MAPPER.mapRow(resultSet, resultSet.getRow())));
+    }
+
+    private <T> Page<T> findPage(String select, RowMapper<T> rowMapper, CarFilterDTO carFilterDTO) {
+        Pageable pageable = carFilterDTO.getPageable();
+        List<Object> args = new ArrayList<>();
+        String from = createFrom(carFilterDTO, args) + createWhere(carFilterDTO, args);
+
+        StringBuilder sql = new StringBuilder(select).append(from)
+            .append(createOrderBy(pageable.getSort(), carFilterDTO.getSearch() != null));
+        List<Object> pageArgs = new ArrayList<>(args);
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT ? OFFSET ?");
+            pageArgs.add(pageable.getPageSize());
+            pageArgs.add(pageable.getOffset());
+        }
+
+        List<T> content = jdbcTemplate.query(sql.toString(), rowMapper, pageArgs.toArray());
+        return PageableExecutionUtils.getPage(content, pageable,
+            () -> jdbcTemplate.queryForObject(COUNT_SUMMARIES + from, Long.class, args.toArray()));
+    }
+
+    private String createFrom(CarFilterDTO carFilterDTO, List<Object> args) {
+        if (carFilterDTO.getSearch() == null) {
+            return FROM_CARS + "WHERE TRUE";
+        }
+        args.add(carFilterDTO.getSearch());
+        return FROM_CARS + NAME_MATCHES + "WHERE TRUE";
+    }
+
+    private String createWhere(CarFilterDTO carFilterDTO, List<Object> args) {
+        StringBuilder where = new StringBuilder();
+        if (carFilterDTO.getManufacturer() != null) {
+            where.append(" AND p.name = ?");
+            args.add(carFilterDTO.getManufacturer());
+        }
+        if (carFilterDTO.getModel() != null) {
+            where.append(" AND m.name = ?");
+            args.add(carFilterDTO.getModel());
+        }
+        if (carFilterDTO.getMinYear() != null) {
+            where.append(" AND c.year_number >= ?");
+            args.add(carFilterDTO.getMinYear());
+        }
+        if (carFilterDTO.getMaxYear() != null) {
+            where.append(" AND c.year_number <= ?");
+            args.add(carFilterDTO.getMaxYear());
+        }
+        if (carFilterDTO.getCategory() != null) {
+            where.append(" ").append(CATEGORY_FILTER);
+            args.add(carFilterDTO.getCategory());
+        }
+        return where.toString();
+    }
+
+    private String createOrderBy(Sort sort, boolean ranked) {
+        StringBuilder orderBy = new StringBuilder(ranked ? " ORDER BY mm.score DESC, " : " ORDER BY ");
+        boolean sortedById = false;
+        for (Sort.Order order : sort) {
+            CarSortProperty property = CarSortProperty.of(order.getProperty());
+            orderBy.append(property.getColumn()).append(order.isAscending() ? " ASC, " : " DESC, ");
+            sortedById |= property == CarSortProperty.ID;
+        }
+        return sortedById ? orderBy.substring(0, orderBy.length() - 2) : orderBy.append("c.id").toString();
+    }
+
+    private static List<String> toList(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        return Arrays.asList((String[]) array.getArray());
+    }
+}
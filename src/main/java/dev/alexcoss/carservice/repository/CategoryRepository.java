@@ -1,12 +1,24 @@
 package dev.alexcoss.carservice.repository;
 
 import dev.alexcoss.carservice.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findByName(String name);
+
+    List<Category> findByNameIn(Collection<String> names);
+
+    @Query("select c.id from Category c where c.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
 }
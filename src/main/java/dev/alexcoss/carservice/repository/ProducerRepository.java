@@ -1,12 +1,53 @@
 package dev.alexcoss.carservice.repository;
 
 import dev.alexcoss.carservice.model.Producer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProducerRepository extends JpaRepository<Producer, Long> {
+public interface ProducerRepository extends JpaRepository<Producer, Long>, JpaSpecificationExecutor<Producer> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Producer> findByName(String name);
+
+    List<Producer> findByNameIn(Collection<String> names);
+
+    @Query("select p.id as id, p.version as version from Producer p")
+    Page<Versions> findVersions(Pageable pageable);
+
+    @Query("select p.id as id, p.version as version from Producer p where p.id = :id")
+    Optional<Versions> findVersionsById(Long id);
+
+    @Query("select p.id as id, p.name as name from Producer p")
+    List<Name> findAllNames();
+
+    @Query(value = """
+        SELECT p.producer_id AS id, p.version AS version
+        FROM car.producer p
+        WHERE :search OPERATOR(public.<%) p.name
+        ORDER BY public.word_similarity(:search, p.name) DESC, p.name, p.producer_id
+        """, countQuery = "SELECT count(*) FROM car.producer p WHERE :search OPERATOR(public.<%) p.name", nativeQuery = true)
+    Page<Versions> searchVersionsByName(String search, Pageable pageable);
+
+    interface Name {
+        Long getId();
+
+        String getName();
+    }
+
+    interface Versions {
+        Long getId();
+
+        Long getVersion();
+    }
 }
@@ -0,0 +1,318 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.config.CarBatchProperties;
+import dev.alexcoss.carservice.dto.BatchItemResultDTO;
+import dev.alexcoss.carservice.dto.BatchResultDTO;
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CategoryDTO;
+import dev.alexcoss.carservice.mapper.CarMapper;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.repository.CarJdbcRepository;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarRepository;
+import dev.alexcoss.carservice.repository.CategoryRepository;
+import dev.alexcoss.carservice.service.batch.BatchItemStatus;
+import dev.alexcoss.carservice.service.facet.CarsChangedEvent;
+import dev.alexcoss.carservice.util.exception.IllegalBatchException;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CarBatchService {
+
+    private static final String CHUNK_FAILED = "Chunk could not be applied";
+
+    private final CarRepository carRepository;
+    private final CarModelRepository carModelRepository;
+    private final CategoryRepository categoryRepository;
+    private final CarJdbcRepository carJdbcRepository;
+    private final CarMapper carMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final CarBatchProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BatchResultDTO createCars(List<CarDTO> carDTOs) {
+        checkBatchSize(carDTOs);
+        BatchItemResultDTO[] results = new BatchItemResultDTO[carDTOs.size()];
+        List<Integer> valid = validateCreates(carDTOs, results);
+
+        for (List<Integer> chunk : chunks(valid)) {
+            applyChunk(chunk, results, index -> null, () -> {
+                List<Car> cars = chunk.stream().map(index -> carMapper.toEntity(carDTOs.get(index))).toList();
+                cars.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+                for (int i = 0; i < chunk.size(); i++) {
+                    results[chunk.get(i)] = result(chunk.get(i), cars.get(i).getId(), BatchItemStatus.CREATED, null);
+                }
+            });
+        }
+        eventPublisher.publishEvent(new CarsChangedEvent());
+        return toBatchResult("create", results);
+    }
+
+    public BatchResultDTO updateCars(List<CarDTO> carDTOs) {
+        checkBatchSize(carDTOs);
+        BatchItemResultDTO[] results = new BatchItemResultDTO[carDTOs.size()];
+        List<Integer> valid = validateUpdates(carDTOs, results);
+
+        for (List<Integer> chunk : chunks(valid)) {
+            applyChunk(chunk, results, index -> carDTOs.get(index).getId(), () -> {
+                Map<Long, Car> carsById = carRepository.findByIdIn(chunk.stream().map(index -> carDTOs.get(index).getId()).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Car::getId, Function.identity()));
+                for (Integer index : chunk) {
+                    CarDTO carDTO = carDTOs.get(index);
+                    Car car = carsById.get(carDTO.getId());
+                    if (car == null) {
+                        results[index] = result(index, carDTO.getId(), BatchItemStatus.NOT_FOUND, null);
+                        continue;
+                    }
+                    carMapper.merge(carDTO, car);
+                    car.setContentHash(null);
+                    results[index] = result(index, car.getId(), BatchItemStatus.UPDATED, null);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        eventPublisher.publishEvent(new CarsChangedEvent());
+        return toBatchResult("update", results);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public BatchResultDTO deleteCars(List<Long> ids) {
+        checkBatchSize(ids);
+        BatchItemResultDTO[] results = new BatchItemResultDTO[ids.size()];
+        Set<Long> seen = new HashSet<>();
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results[i] = result(i, null, BatchItemStatus.INVALID, "Car id is required");
+            } else if (!seen.add(id)) {
+                results[i] = result(i, id, BatchItemStatus.INVALID, "Duplicate car id " + id);
+            } else {
+                valid.add(i);
+            }
+        }
+
+        for (List<Integer> chunk : chunks(valid)) {
+            applyChunk(chunk, results, ids::get, () -> {
+                Set<Long> deleted = new HashSet<>(carJdbcRepository.deleteCars(chunk.stream().map(ids::get).toList()));
+                for (Integer index : chunk) {
+                    Long id = ids.get(index);
+                    results[index] = deleted.contains(id)
+                        ? result(index, id, BatchItemStatus.DELETED, null)
+                        : result(index, id, BatchItemStatus.NOT_FOUND, null);
+                }
+            });
+        }
+        eventPublisher.publishEvent(new CarsChangedEvent());
+        return toBatchResult("delete", results);
+    }
+
+    private List<Integer> validateCreates(List<CarDTO> carDTOs, BatchItemResultDTO[] results) {
+        Map<Integer, List<String>> errors = validateReferences(carDTOs, results);
+        Set<String> existingObjectIds = findObjectIdOwners(carDTOs).keySet();
+        Set<String> batchObjectIds = new HashSet<>();
+
+        for (int i = 0; i < carDTOs.size(); i++) {
+            CarDTO carDTO = carDTOs.get(i);
+            if (carDTO == null) {
+                continue;
+            }
+            List<String> itemErrors = errors.computeIfAbsent(i, index -> new ArrayList<>());
+            if (carDTO.getId() != null) {
+                itemErrors.add("id: must be null on create");
+            }
+            String objectId = carDTO.getObjectId();
+            if (objectId != null && (existingObjectIds.contains(objectId) || !batchObjectIds.add(objectId))) {
+                itemErrors.add("objectId: " + objectId + " already exists");
+            }
+        }
+        return collectValid(carDTOs, errors, results);
+    }
+
+    private List<Integer> validateUpdates(List<CarDTO> carDTOs, BatchItemResultDTO[] results) {
+        Map<Integer, List<String>> errors = validateReferences(carDTOs, results);
+        Map<String, Long> objectIdOwners = findObjectIdOwners(carDTOs);
+        Set<Long> existingIds = findExisting(carRepository::findExistingIds, collectIds(carDTOs, CarDTO::getId));
+        Set<Long> batchIds = new HashSet<>();
+        Set<String> batchObjectIds = new HashSet<>();
+
+        for (int i = 0; i < carDTOs.size(); i++) {
+            CarDTO carDTO = carDTOs.get(i);
+            if (carDTO == null) {
+                continue;
+            }
+            List<String> itemErrors = errors.computeIfAbsent(i, index -> new ArrayList<>());
+            Long id = carDTO.getId();
+            if (id == null) {
+                itemErrors.add("id: must not be null");
+            } else if (!batchIds.add(id)) {
+                itemErrors.add("id: duplicate car id " + id);
+            } else if (!existingIds.contains(id) && itemErrors.isEmpty()) {
+                results[i] = result(i, id, BatchItemStatus.NOT_FOUND, null);
+                continue;
+            }
+            Long owner = carDTO.getObjectId() == null ? null : objectIdOwners.get(carDTO.getObjectId());
+            if (owner != null && !owner.equals(id) || carDTO.getObjectId() != null && !batchObjectIds.add(carDTO.getObjectId())) {
+                itemErrors.add("objectId: " + carDTO.getObjectId() + " already exists");
+            }
+        }
+        return collectValid(carDTOs, errors, results);
+    }
+
+    private Map<Integer, List<String>> validateReferences(List<CarDTO> carDTOs, BatchItemResultDTO[] results) {
+        Set<Long> existingModelIds = findExisting(carModelRepository::findExistingIds,
+            collectIds(carDTOs, carDTO -> carDTO.getCarModel() == null ? null : carDTO.getCarModel().getId()));
+        Set<Long> existingCategoryIds = findExisting(categoryRepository::findExistingIds, carDTOs.stream()
+            .filter(Objects::nonNull)
+            .flatMap(carDTO -> carDTO.getCategories() == null ? Stream.empty() : carDTO.getCategories().stream())
+            .filter(Objects::nonNull)
+            .map(CategoryDTO::getId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()));
+
+        Map<Integer, List<String>> errors = new HashMap<>();
+        for (int i = 0; i < carDTOs.size(); i++) {
+            CarDTO carDTO = carDTOs.get(i);
+            if (carDTO == null) {
+                results[i] = result(i, null, BatchItemStatus.INVALID, "Car is required");
+                continue;
+            }
+            List<String> itemErrors = new ArrayList<>();
+            for (ConstraintViolation<CarDTO> violation : validator.validate(carDTO)) {
+                itemErrors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+            Long modelId = carDTO.getCarModel() == null ? null : carDTO.getCarModel().getId();
+            if (carDTO.getCarModel() != null && modelId == null) {
+                itemErrors.add("carModel.id: must not be null");
+            } else if (modelId != null && !existingModelIds.contains(modelId)) {
+                itemErrors.add("carModel.id: car model " + modelId + " does not exist");
+            }
+            if (carDTO.getCategories() != null) {
+                for (CategoryDTO categoryDTO : carDTO.getCategories()) {
+                    if (categoryDTO == null || categoryDTO.getId() == null) {
+                        itemErrors.add("categories.id: must not be null");
+                    } else if (!existingCategoryIds.contains(categoryDTO.getId())) {
+                        itemErrors.add("categories.id: category " + categoryDTO.getId() + " does not exist");
+                    }
+                }
+            }
+            errors.put(i, itemErrors);
+        }
+        return errors;
+    }
+
+    private Map<String, Long> findObjectIdOwners(List<CarDTO> carDTOs) {
+        Set<String> objectIds = carDTOs.stream()
+            .filter(Objects::nonNull)
+            .map(CarDTO::getObjectId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (objectIds.isEmpty()) {
+            return Map.of();
+        }
+        return carRepository.findObjectIdOwners(objectIds).stream()
+            .collect(Collectors.toMap(CarRepository.ObjectIdOwner::getObjectId, CarRepository.ObjectIdOwner::getId));
+    }
+
+    private List<Integer> collectValid(List<CarDTO> carDTOs, Map<Integer, List<String>> errors, BatchItemResultDTO[] results) {
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < carDTOs.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            List<String> itemErrors = errors.get(i);
+            if (itemErrors.isEmpty()) {
+                valid.add(i);
+            } else {
+                results[i] = result(i, carDTOs.get(i).getId(), BatchItemStatus.INVALID, String.join("; ", itemErrors));
+            }
+        }
+        return valid;
+    }
+
+    private static Set<Long> findExisting(Function<Collection<Long>, List<Long>> finder, Set<Long> ids) {
+        return ids.isEmpty() ? Set.of() : new HashSet<>(finder.apply(ids));
+    }
+
+    private static Set<Long> collectIds(List<CarDTO> carDTOs, Function<CarDTO, Long> idExtractor) {
+        return carDTOs.stream()
+            .filter(Objects::nonNull)
+            .map(idExtractor)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    private void applyChunk(List<Integer> chunk, BatchItemResultDTO[] results, Function<Integer, Long> idOf, Runnable action) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> action.run());
+        } catch (RuntimeException e) {
+            log.error("Car batch chunk of {} items failed: {}", chunk.size(), e.getMessage());
+            chunk.forEach(index -> results[index] = result(index, idOf.apply(index), BatchItemStatus.FAILED, CHUNK_FAILED));
+        }
+    }
+
+    private List<List<Integer>> chunks(List<Integer> indexes) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < indexes.size(); from += properties.getChunkSize()) {
+            chunks.add(indexes.subList(from, Math.min(from + properties.getChunkSize(), indexes.size())));
+        }
+        return chunks;
+    }
+
+    private void checkBatchSize(Collection<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalBatchException("Batch must contain at least one item");
+        }
+        if (items.size() > properties.getMaxItems()) {
+            throw new IllegalBatchException("Batch of " + items.size() + " items exceeds the limit of " + properties.getMaxItems());
+        }
+    }
+
+    private static BatchResultDTO toBatchResult(String operation, BatchItemResultDTO[] results) {
+        int succeeded = (int) Arrays.stream(results).filter(result -> result.getStatus().isSuccessful()).count();
+        log.info("Car batch {}: {} of {} items succeeded", operation, succeeded, results.length);
+        return BatchResultDTO.builder()
+            .succeeded(succeeded)
+            .failed(results.length - succeeded)
+            .items(List.of(results))
+            .build();
+    }
+
+    private static BatchItemResultDTO result(int index, Long id, BatchItemStatus status, String error) {
+        return BatchItemResultDTO.builder()
+            .index(index)
+            .id(id)
+            .status(status)
+            .error(error)
+            .build();
+    }
+}
@@ -0,0 +1,92 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CategoryRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.service.csv.CarDictionary;
+import dev.alexcoss.carservice.service.typeahead.CarModelSavedEvent;
+import dev.alexcoss.carservice.service.typeahead.ProducerSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CarDictionaryService {
+
+    private final ProducerRepository producerRepository;
+    private final CarModelRepository carModelRepository;
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CarDictionary loadOrCreate(Map<String, Set<String>> modelNamesByProducer, Set<String> categoryNames) {
+        Map<String, Producer> producers = loadOrCreateProducers(modelNamesByProducer.keySet());
+        Map<String, CarModel> models = loadOrCreateModels(producers, modelNamesByProducer);
+        Map<String, Category> categories = loadOrCreateCategories(categoryNames);
+
+        log.info("Resolved {} producers, {} models and {} categories", producers.size(), models.size(), categories.size());
+        return new CarDictionary(models, categories);
+    }
+
+    private Map<String, Producer> loadOrCreateProducers(Set<String> names) {
+        Map<String, Producer> producers = new HashMap<>();
+        producerRepository.findByNameIn(names)
+            .forEach(producer -> producers.putIfAbsent(producer.getName(), producer));
+
+        List<Producer> missing = names.stream()
+            .filter(name -> !producers.containsKey(name))
+            .map(name -> Producer.builder().name(name).build())
+            .toList();
+        producerRepository.saveAll(missing).forEach(producer -> {
+            producers.put(producer.getName(), producer);
+            eventPublisher.publishEvent(new ProducerSavedEvent(producer.getId(), producer.getName()));
+        });
+        return producers;
+    }
+
+    private Map<String, CarModel> loadOrCreateModels(Map<String, Producer> producers, Map<String, Set<String>> modelNamesByProducer) {
+        Map<String, CarModel> models = new HashMap<>();
+        carModelRepository.findByProducerNameIn(producers.keySet())
+            .forEach(model -> models.putIfAbsent(CarDictionary.modelKey(model.getProducer().getName(), model.getName()), model));
+
+        List<CarModel> missing = new ArrayList<>();
+        modelNamesByProducer.forEach((producerName, modelNames) -> {
+            for (String modelName : modelNames) {
+                if (!models.containsKey(CarDictionary.modelKey(producerName, modelName))) {
+                    missing.add(CarModel.builder()
+                        .name(modelName)
+                        .producer(producers.get(producerName))
+                        .build());
+                }
+            }
+        });
+        carModelRepository.saveAll(missing).forEach(model -> {
+            models.put(CarDictionary.modelKey(model.getProducer().getName(), model.getName()), model);
+            eventPublisher.publishEvent(new CarModelSavedEvent(model.getId(), model.getName(), model.getProducer().getId()));
+        });
+        return models;
+    }
+
+    private Map<String, Category> loadOrCreateCategories(Set<String> names) {
+        Map<String, Category> categories = new HashMap<>();
+        categoryRepository.findByNameIn(names)
+            .forEach(category -> categories.putIfAbsent(category.getName(), category));
+
+        List<Category> missing = names.stream()
+            .filter(name -> !categories.containsKey(name))
+            .map(name -> Category.builder().name(name).build())
+            .toList();
+        categoryRepository.saveAll(missing)
+            .forEach(category -> categories.put(category.getName(), category));
+        return categories;
+    }
+}
@@ -0,0 +1,148 @@
+package dev.alexcoss.carservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.alexcoss.carservice.config.CarExportProperties;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.dto.CarSummaryDTO;
+import dev.alexcoss.carservice.dto.ErrorResponse;
+import dev.alexcoss.carservice.repository.CarSummaryRepository;
+import dev.alexcoss.carservice.service.export.ExportFormat;
+import dev.alexcoss.carservice.util.exception.ExportFailedException;
+import dev.alexcoss.carservice.util.exception.ExportRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
+@Service
+public class CarExportService {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String CSV_HEADER = "objectId,Make,Year,Model,Category\n";
+
+    private final CarSummaryRepository carSummaryRepository;
+    private final ObjectMapper objectMapper;
+    private final CarExportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore permits;
+
+    public CarExportService(CarSummaryRepository carSummaryRepository, ObjectMapper objectMapper, CarExportProperties properties,
+                            PlatformTransactionManager transactionManager) {
+        this.carSummaryRepository = carSummaryRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.permits = new Semaphore(properties.getMaxConcurrent());
+    }
+
+    public long exportCars(CarFilterDTO carFilterDTO, ExportFormat format, OutputStream outputStream) throws IOException {
+        return exportCars(carFilterDTO, format, () -> outputStream);
+    }
+
+    public long exportCars(CarFilterDTO carFilterDTO, ExportFormat format, ExportTarget target) throws IOException {
+        if (!permits.tryAcquire()) {
+            log.warn("Rejected car export, {} exports already running", properties.getMaxConcurrent());
+            throw new ExportRejectedException("Too many exports running, try again later");
+        }
+        try {
+            long startTime = System.nanoTime();
+            OutputStream outputStream = target.open();
+            long exportedRows = switch (format) {
+                case NDJSON -> exportNdjson(carFilterDTO, outputStream);
+                case CSV -> exportCsv(carFilterDTO, outputStream);
+            };
+            log.info("Exported {} cars as {} in {} ms", exportedRows, format, (System.nanoTime() - startTime) / 1_000_000);
+            return exportedRows;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private long exportNdjson(CarFilterDTO carFilterDTO, OutputStream outputStream) throws IOException {
+        long[] rows = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            try {
+                streamSummaries(carFilterDTO, summary -> {
+                    generator.writeObject(summary);
+                    rows[0]++;
+                });
+            } catch (ExportFailedException e) {
+                generator.writeObject(new ErrorResponse("EXPORT_FAILED", e.getMessage()));
+                generator.writeRaw('\n');
+                throw e;
+            }
+            if (rows[0] > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return rows[0];
+    }
+
+    private long exportCsv(CarFilterDTO carFilterDTO, OutputStream outputStream) throws IOException {
+        long[] rows = {0};
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        streamSummaries(carFilterDTO, summary -> {
+            writer.append(escape(summary.objectId())).append(',')
+                .append(escape(summary.manufacturer())).append(',')
+                .append(escape(summary.year())).append(',')
+                .append(escape(summary.model())).append(',')
+                .append(escape(String.join(", ", summary.categories()))).append('\n');
+            rows[0]++;
+        });
+        writer.flush();
+        return rows[0];
+    }
+
+    private void streamSummaries(CarFilterDTO carFilterDTO, SummaryWriter summaryWriter) throws IOException {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                carSummaryRepository.streamSummaries(carFilterDTO, FETCH_SIZE, properties.getIdleTimeout(), summary -> {
+                    try {
+                        summaryWriter.write(summary);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+        } catch (UncheckedIOException e) {
+            log.warn("Car export aborted: {}", e.getCause().getMessage());
+            throw e.getCause();
+        } catch (DataAccessException e) {
+            log.error("Car export failed: {}", e.getMessage());
+            throw new ExportFailedException("Export stopped before all cars were written");
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    public interface ExportTarget {
+        OutputStream open() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface SummaryWriter {
+        void write(CarSummaryDTO summary) throws IOException;
+    }
+}
@@ -0,0 +1,158 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.config.CarFacetProperties;
+import dev.alexcoss.carservice.dto.CarFacetsDTO;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.repository.CarFacetRepository;
+import dev.alexcoss.carservice.service.facet.CarFacetIndex;
+import dev.alexcoss.carservice.service.facet.CarsChangedEvent;
+import dev.alexcoss.carservice.service.typeahead.CarModelDeletedEvent;
+import dev.alexcoss.carservice.service.typeahead.CarModelSavedEvent;
+import dev.alexcoss.carservice.service.typeahead.ProducerDeletedEvent;
+import dev.alexcoss.carservice.service.typeahead.ProducerSavedEvent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Service
+@Timed("service.calls")
+public class CarFacetService {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final CarFacetRepository carFacetRepository;
+    private final CarFacetProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final AtomicReference<CompletableFuture<CarFacetIndex>> pending = new AtomicReference<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile CarFacetIndex index;
+
+    public CarFacetService(CarFacetRepository carFacetRepository, CarFacetProperties properties,
+                           PlatformTransactionManager transactionManager) {
+        this.carFacetRepository = carFacetRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("car-facets-", 0).daemon().factory());
+    }
+
+    public CarFacetsDTO getFacets(CarFilterDTO carFilterDTO) {
+        CarFacetIndex current = index;
+        if (current == null) {
+            current = awaitIndex();
+        } else if (dirty.get() || current.getIndexedAt().plus(properties.getRefreshInterval()).isBefore(Instant.now())) {
+            refreshAsync();
+        }
+        return current.count(carFilterDTO);
+    }
+
+    public CarFacetIndex refresh() {
+        dirty.set(false);
+        long startTime = System.nanoTime();
+        Instant indexedAt = Instant.now();
+        CarFacetIndex refreshed = transactionTemplate.execute(status -> {
+            CarFacetIndex.Builder builder = CarFacetIndex.builder(carFacetRepository.findModelNames(),
+                carFacetRepository.findCategoryNames());
+            carFacetRepository.streamCars(properties.getFetchSize(), builder::addCar);
+            carFacetRepository.streamCarCategories(properties.getFetchSize(), builder::addCategory);
+            return builder.build(indexedAt);
+        });
+        index = refreshed;
+        log.info("Indexed {} cars for facets in {} ms", refreshed.size(), (System.nanoTime() - startTime) / 1_000_000);
+        return refreshed;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.isWarmUp()) {
+            refreshAsync();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarsChanged(CarsChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProducerSaved(ProducerSavedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProducerDeleted(ProducerDeletedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarModelSaved(CarModelSavedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarModelDeleted(CarModelDeletedEvent event) {
+        dirty.set(true);
+    }
+
+    public CompletableFuture<CarFacetIndex> refreshAsync() {
+        CompletableFuture<CarFacetIndex> refreshed = new CompletableFuture<>();
+        CompletableFuture<CarFacetIndex> inFlight = pending.compareAndExchange(null, refreshed);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    refreshed.complete(refresh());
+                } catch (RuntimeException e) {
+                    log.error("Car facet index refresh failed: {}", e.getMessage());
+                    dirty.set(true);
+                    refreshed.completeExceptionally(e);
+                } finally {
+                    pending.set(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.set(null);
+            refreshed.completeExceptionally(e);
+        }
+        return refreshed;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private CarFacetIndex awaitIndex() {
+        try {
+            return refreshAsync().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
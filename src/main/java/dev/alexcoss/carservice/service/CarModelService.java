@@ -1,41 +1,73 @@
 package dev.alexcoss.carservice.service;
 
 import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.CursorPageDTO;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
 import dev.alexcoss.carservice.model.CarModel;
 import dev.alexcoss.carservice.model.Producer;
 import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarModelSpecification;
+import dev.alexcoss.carservice.service.cursor.CursorCodec;
+import dev.alexcoss.carservice.service.typeahead.CarModelDeletedEvent;
+import dev.alexcoss.carservice.service.typeahead.CarModelSavedEvent;
+import dev.alexcoss.carservice.util.ETags;
+import dev.alexcoss.carservice.util.VersionedId;
 import dev.alexcoss.carservice.util.exception.EntityNotExistException;
 import dev.alexcoss.carservice.util.exception.IllegalModelException;
 import dev.alexcoss.carservice.util.exception.IllegalProducerException;
+import dev.alexcoss.carservice.util.exception.IllegalSortException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
+@Timed("service.calls")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CarModelService {
 
+    private static final Map<String, Class<?>> CURSOR_PROPERTIES = Map.of("id", Long.class, "name", String.class);
+
     private final CarModelRepository carModelRepository;
-    private final ModelMapper modelMapper;
+    private final CarModelMapper carModelMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CarModelDTO getCarModelById(Long id) {
-        CarModel carModel = carModelRepository.findById(id)
+        return carModelRepository.findById(id)
+            .map(carModelMapper::toDTO)
             .orElseThrow(() -> getEntityNotExistException(id));
-        return modelMapper.map(carModel, CarModelDTO.class);
+    }
+
+    public String getCarModelETag(Long id) {
+        CarModelRepository.Versions versions = carModelRepository.findVersionsById(id)
+            .orElseThrow(() -> getEntityNotExistException(id));
+        return ETags.of(versions.getVersion(), versions.getProducerVersion());
     }
 
     @Transactional
     public CarModelDTO createCarModel(CarModelDTO carModelDTO) {
         isValidCarModel(carModelDTO);
-        CarModel savedCarModel = carModelRepository.save(modelMapper.map(carModelDTO, CarModel.class));
-        return modelMapper.map(savedCarModel, CarModelDTO.class);
+        CarModel savedCarModel = carModelRepository.save(carModelMapper.toEntity(carModelDTO));
+        publishSaved(savedCarModel);
+        return carModelMapper.toDTO(savedCarModel);
     }
 
     @Transactional
@@ -44,21 +76,64 @@ public class CarModelService {
         CarModel existingCarModel = carModelRepository.findById(carModelDTO.getId())
             .orElseThrow(() -> getEntityNotExistException(carModelDTO.getId()));
 
-        modelMapper.getConfiguration().setSkipNullEnabled(true);
-        modelMapper.map(carModelDTO, existingCarModel);
+        carModelMapper.merge(carModelDTO, existingCarModel);
 
         CarModel savedCarModel = carModelRepository.save(existingCarModel);
-        return modelMapper.map(savedCarModel, CarModelDTO.class);
+        publishSaved(savedCarModel);
+        return carModelMapper.toDTO(savedCarModel);
     }
 
-    public Page<CarModelDTO> getListCarModels(String producerName, Pageable pageable) {
+    public Page<VersionedId> getCarModelVersions(String producerName, Pageable pageable) {
         if (producerName == null || producerName.isBlank()) {
-            return carModelRepository.findAll(pageable)
-                .map(pageModel -> modelMapper.map(pageModel, CarModelDTO.class));
+            return carModelRepository.findVersions(pageable)
+                .map(this::toVersionedId);
         } else {
-            return carModelRepository.findByProducerName(producerName, pageable)
-                .map(pageModel -> modelMapper.map(pageModel, CarModelDTO.class));
+            return carModelRepository.findVersionsByProducerName(producerName, pageable)
+                .map(this::toVersionedId);
+        }
+    }
+
+    public Page<VersionedId> searchCarModelVersions(String search, Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            throw new IllegalSortException("Model search results are ranked by similarity and cannot be sorted");
         }
+        return carModelRepository.searchVersionsByName(search, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+            .map(this::toVersionedId);
+    }
+
+    public CursorPageDTO<VersionedId> getCarModelVersionsAfter(String producerName, String after, int size, Sort sort) {
+        Sort keysetSort = CursorCodec.keysetSort(sort, CURSOR_PROPERTIES);
+        ScrollPosition position = CursorCodec.decode(after, keysetSort, CURSOR_PROPERTIES);
+        int limit = CursorCodec.limit(size);
+
+        Window<CarModel> window = carModelRepository.findBy(CarModelSpecification.hasProducer(producerName), query -> query
+            .sortBy(keysetSort)
+            .limit(limit)
+            .scroll(position));
+
+        return CursorPageDTO.<VersionedId>builder()
+            .content(window.stream().map(this::toVersionedId).toList())
+            .size(limit)
+            .hasNext(window.hasNext())
+            .nextCursor(CursorCodec.nextCursor(window))
+            .build();
+    }
+
+    public Page<CarModelDTO> getCarModels(Page<VersionedId> carModelIds) {
+        Map<Long, CarModel> carModelsById = fetchCarModels(carModelIds.map(VersionedId::id).getContent());
+
+        return new PageImpl<>(toCarModelDTOs(carModelIds.getContent(), carModelsById), carModelIds.getPageable(), carModelIds.getTotalElements());
+    }
+
+    public CursorPageDTO<CarModelDTO> getCarModels(CursorPageDTO<VersionedId> carModelIds) {
+        Map<Long, CarModel> carModelsById = fetchCarModels(carModelIds.getContent().stream().map(VersionedId::id).toList());
+
+        return CursorPageDTO.<CarModelDTO>builder()
+            .content(toCarModelDTOs(carModelIds.getContent(), carModelsById))
+            .size(carModelIds.getSize())
+            .hasNext(carModelIds.isHasNext())
+            .nextCursor(carModelIds.getNextCursor())
+            .build();
     }
 
     @Transactional
@@ -67,6 +142,35 @@ public class CarModelService {
         CarModel existingCarModel = carModelRepository.findById(id)
             .orElseThrow(() -> getEntityNotExistException(id));
         carModelRepository.delete(existingCarModel);
+        eventPublisher.publishEvent(new CarModelDeletedEvent(id));
+    }
+
+    private VersionedId toVersionedId(CarModelRepository.Versions versions) {
+        return new VersionedId(versions.getId(), ETags.of(versions.getVersion(), versions.getProducerVersion()));
+    }
+
+    private VersionedId toVersionedId(CarModel carModel) {
+        Producer producer = carModel.getProducer();
+        return new VersionedId(carModel.getId(), ETags.of(carModel.getVersion(), producer == null ? null : producer.getVersion()));
+    }
+
+    private List<CarModelDTO> toCarModelDTOs(List<VersionedId> carModelIds, Map<Long, CarModel> carModelsById) {
+        return carModelIds.stream()
+            .map(carModelId -> carModelsById.get(carModelId.id()))
+            .filter(Objects::nonNull)
+            .map(carModelMapper::toDTO)
+            .toList();
+    }
+
+    private Map<Long, CarModel> fetchCarModels(List<Long> ids) {
+        List<CarModel> carModels = ids.isEmpty() ? List.of() : carModelRepository.findByIdIn(ids);
+        return carModels.stream()
+            .collect(Collectors.toMap(CarModel::getId, Function.identity()));
+    }
+
+    private void publishSaved(CarModel carModel) {
+        Producer producer = carModel.getProducer();
+        eventPublisher.publishEvent(new CarModelSavedEvent(carModel.getId(), carModel.getName(), producer == null ? null : producer.getId()));
     }
 
     private EntityNotExistException getEntityNotExistException(Long id) {
@@ -2,37 +2,68 @@ package dev.alexcoss.carservice.service;
 
 import dev.alexcoss.carservice.dto.CarDTO;
 import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.dto.CarSummaryDTO;
+import dev.alexcoss.carservice.dto.CursorPageDTO;
+import dev.alexcoss.carservice.mapper.CarMapper;
 import dev.alexcoss.carservice.model.Car;
 import dev.alexcoss.carservice.repository.CarRepository;
 import dev.alexcoss.carservice.repository.CarSpecification;
+import dev.alexcoss.carservice.repository.CarSummaryRepository;
+import dev.alexcoss.carservice.service.cursor.CursorCodec;
+import dev.alexcoss.carservice.service.facet.CarsChangedEvent;
+import dev.alexcoss.carservice.util.ETags;
+import dev.alexcoss.carservice.util.VersionedId;
 import dev.alexcoss.carservice.util.exception.EntityNotExistException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
+@Timed("service.calls")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CarService {
 
+    private static final Map<String, Class<?>> CURSOR_PROPERTIES = Map.of("id", Long.class, "year", String.class);
+
     private final CarRepository carRepository;
-    private final ModelMapper modelMapper;
+    private final CarSummaryRepository carSummaryRepository;
+    private final CarMapper carMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CarDTO getCarById(Long id) {
         Car car = carRepository.findById(id).orElseThrow(() -> createEntityNotExistException(id));
-        return modelMapper.map(car, CarDTO.class);
+        return carMapper.toDTO(car);
+    }
+
+    public String getCarETag(Long id) {
+        CarRepository.Versions versions = carRepository.findVersionsById(id)
+            .orElseThrow(() -> createEntityNotExistException(id));
+        return ETags.of(versions.getVersion(), versions.getModelVersion(), versions.getProducerVersion());
     }
 
     @Transactional
     public CarDTO createCar(CarDTO carDTO) {
-        Car saved = carRepository.save(modelMapper.map(carDTO, Car.class));
-        return modelMapper.map(saved, CarDTO.class);
+        Car saved = carRepository.save(carMapper.toEntity(carDTO));
+        eventPublisher.publishEvent(new CarsChangedEvent());
+        return carMapper.toDTO(saved);
     }
 
     @Transactional
@@ -40,23 +71,69 @@ public class CarService {
         Car existingCar = carRepository.findById(carDTO.getId())
             .orElseThrow(() -> createEntityNotExistException(carDTO.getId()));
 
-        modelMapper.getConfiguration().setSkipNullEnabled(true);
-        modelMapper.map(carDTO, existingCar);
+        carMapper.merge(carDTO, existingCar);
+        existingCar.setContentHash(null);
 
         Car updated = carRepository.save(existingCar);
-        return modelMapper.map(updated, CarDTO.class);
+        eventPublisher.publishEvent(new CarsChangedEvent());
+        return carMapper.toDTO(updated);
     }
 
     public Page<CarDTO> getListCarsWithPagination(CarFilterDTO carFilterDTO) {
-        Specification<Car> spec = Specification.where(CarSpecification.hasProducer(carFilterDTO.getManufacturer())
-            .and(CarSpecification.hasModel(carFilterDTO.getModel()))
-            .and(CarSpecification.hasYearGreaterThanOrEqualTo(carFilterDTO.getMinYear()))
-            .and(CarSpecification.hasYearLessThanOrEqualTo(carFilterDTO.getMaxYear()))
-            .and(CarSpecification.hasCategory(carFilterDTO.getCategory())));
+        return getCars(getCarVersions(carFilterDTO));
+    }
 
-        Page<Car> carsByFilter = carRepository.findAll(spec, carFilterDTO.getPageable());
+    public Page<VersionedId> getCarVersions(CarFilterDTO carFilterDTO) {
+        Page<Long> carIds = carFilterDTO.getSearch() == null
+            ? carRepository.findIds(createSpecification(carFilterDTO), carFilterDTO.getPageable())
+            : carSummaryRepository.findIds(carFilterDTO);
+        Map<Long, String> eTagsById = fetchETags(carIds.getContent());
 
-        return carsByFilter.map(car -> modelMapper.map(car, CarDTO.class));
+        return carIds.map(id -> new VersionedId(id, eTagsById.get(id)));
+    }
+
+    public Page<CarDTO> getCars(Page<VersionedId> carIds) {
+        Map<Long, Car> carsById = fetchCarGraphs(carIds.map(VersionedId::id).getContent());
+
+        return new PageImpl<>(toCarDTOs(carIds.getContent(), carsById), carIds.getPageable(), carIds.getTotalElements());
+    }
+
+    public Page<CarSummaryDTO> getCarSummaries(CarFilterDTO carFilterDTO) {
+        return carSummaryRepository.findSummaries(carFilterDTO);
+    }
+
+    public CursorPageDTO<CarDTO> getListCarsAfter(CarFilterDTO carFilterDTO, String after, int size, Sort sort) {
+        return getCars(getCarVersionsAfter(carFilterDTO, after, size, sort));
+    }
+
+    public CursorPageDTO<VersionedId> getCarVersionsAfter(CarFilterDTO carFilterDTO, String after, int size, Sort sort) {
+        Sort keysetSort = CursorCodec.keysetSort(sort, CURSOR_PROPERTIES);
+        ScrollPosition position = CursorCodec.decode(after, keysetSort, CURSOR_PROPERTIES);
+        int limit = CursorCodec.limit(size);
+
+        Window<Car> window = carRepository.findBy(createSpecification(carFilterDTO), query -> query
+            .sortBy(keysetSort)
+            .limit(limit)
+            .scroll(position));
+        Map<Long, String> eTagsById = fetchETags(window.stream().map(Car::getId).toList());
+
+        return CursorPageDTO.<VersionedId>builder()
+            .content(window.stream().map(car -> new VersionedId(car.getId(), eTagsById.get(car.getId()))).toList())
+            .size(limit)
+            .hasNext(window.hasNext())
+            .nextCursor(CursorCodec.nextCursor(window))
+            .build();
+    }
+
+    public CursorPageDTO<CarDTO> getCars(CursorPageDTO<VersionedId> carIds) {
+        Map<Long, Car> carsById = fetchCarGraphs(carIds.getContent().stream().map(VersionedId::id).toList());
+
+        return CursorPageDTO.<CarDTO>builder()
+            .content(toCarDTOs(carIds.getContent(), carsById))
+            .size(carIds.getSize())
+            .hasNext(carIds.isHasNext())
+            .nextCursor(carIds.getNextCursor())
+            .build();
     }
 
     @Transactional
@@ -64,6 +141,36 @@ public class CarService {
     public void deleteCar(Long id) {
         Car existingCar = carRepository.findById(id).orElseThrow(() -> createEntityNotExistException(id));
         carRepository.delete(existingCar);
+        eventPublisher.publishEvent(new CarsChangedEvent());
+    }
+
+    private Specification<Car> createSpecification(CarFilterDTO carFilterDTO) {
+        return Specification.where(CarSpecification.hasProducer(carFilterDTO.getManufacturer())
+            .and(CarSpecification.hasModel(carFilterDTO.getModel()))
+            .and(CarSpecification.hasYearGreaterThanOrEqualTo(carFilterDTO.getMinYear()))
+            .and(CarSpecification.hasYearLessThanOrEqualTo(carFilterDTO.getMaxYear()))
+            .and(CarSpecification.hasCategory(carFilterDTO.getCategory())));
+    }
+
+    private Map<Long, String> fetchETags(List<Long> ids) {
+        List<CarRepository.Versions> versions = ids.isEmpty() ? List.of() : carRepository.findVersionsByIdIn(ids);
+        return versions.stream()
+            .collect(Collectors.toMap(CarRepository.Versions::getId,
+                version -> ETags.of(version.getVersion(), version.getModelVersion(), version.getProducerVersion())));
+    }
+
+    private List<CarDTO> toCarDTOs(List<VersionedId> carIds, Map<Long, Car> carsById) {
+        return carIds.stream()
+            .map(carId -> carsById.get(carId.id()))
+            .filter(Objects::nonNull)
+            .map(carMapper::toDTO)
+            .toList();
+    }
+
+    private Map<Long, Car> fetchCarGraphs(List<Long> ids) {
+        List<Car> cars = ids.isEmpty() ? List.of() : carRepository.findByIdIn(ids);
+        return cars.stream()
+            .collect(Collectors.toMap(Car::getId, Function.identity()));
     }
 
     private EntityNotExistException createEntityNotExistException(Long id) {
@@ -1,52 +1,144 @@
 package dev.alexcoss.carservice.service;
 
+import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
-import dev.alexcoss.carservice.model.*;
-import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.config.CsvImportProperties;
+import dev.alexcoss.carservice.dto.ImportReportDTO;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarCsv;
+import dev.alexcoss.carservice.repository.CarJdbcRepository;
 import dev.alexcoss.carservice.repository.CarRepository;
-import dev.alexcoss.carservice.repository.CategoryRepository;
-import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.service.csv.CarDictionary;
+import dev.alexcoss.carservice.service.csv.ChunkWorkerPool;
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import dev.alexcoss.carservice.service.csv.ImportProgress;
+import dev.alexcoss.carservice.service.facet.CarsChangedEvent;
 import dev.alexcoss.carservice.util.exception.CsvFileNotFoundException;
 import dev.alexcoss.carservice.util.exception.FileReadException;
 import dev.alexcoss.carservice.util.exception.IllegalIdException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
+@Timed("service.calls")
 @RequiredArgsConstructor
 public class CsvCarService {
 
     private final CarRepository carRepository;
-    private final ProducerRepository producerRepository;
-    private final CarModelRepository carModelRepository;
-    private final CategoryRepository categoryRepository;
+    private final CarJdbcRepository carJdbcRepository;
+    private final CarDictionaryService carDictionaryService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CsvImportProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private final Map<String, Producer> producerCache = new ConcurrentHashMap<>();
-    private final Map<String, CarModel> carModelCache = new ConcurrentHashMap<>();
-    private final Map<String, Category> categoryCache = new ConcurrentHashMap<>();
+    public ImportReportDTO parseAndSaveCars(String filePath) {
+        return parseAndSaveCars(filePath, properties.getMode());
+    }
+
+    public ImportReportDTO parseAndSaveCars(String filePath, ImportMode mode) {
+        return parseAndSaveCars(filePath, mode, new ImportProgress());
+    }
+
+    public ImportReportDTO parseAndSaveCars(String filePath, ImportMode mode, ImportProgress progress) {
+        return parseAndSaveCars(filePath, mode, properties.isDeleteMissing(), progress);
+    }
+
+    public ImportReportDTO parseAndSaveCars(String filePath, ImportMode mode, boolean deleteMissing, ImportProgress progress) {
+        long startTime = System.nanoTime();
+        CarDictionary dictionary = timePhase("dictionary", mode, () -> resolveDictionary(filePath, progress));
+        long dictionaryMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        ImportReportDTO report;
+        try {
+            report = switch (mode) {
+                case IN_MEMORY -> {
+                    List<CarCsv> cars = timePhase("parse", mode, () -> parseCarsFromFile(filePath));
+                    yield insertedOnly(timePhase("write", mode, () -> saveCarsToDatabase(cars, dictionary, progress)));
+                }
+                case STREAMING -> insertedOnly(timePhase("write", mode,
+                    () -> writeChunks(filePath, progress, chunk -> persistChunk(chunk, dictionary))));
+                case COPY -> insertedOnly(timePhase("write", mode,
+                    () -> writeChunks(filePath, progress, chunk -> copyChunk(chunk, dictionary))));
+                case SYNC -> syncCars(filePath, dictionary, deleteMissing, progress);
+            };
+        } finally {
+            eventPublisher.publishEvent(new CarsChangedEvent());
+        }
 
-    @Transactional
-    public void parseAndSaveCars(String filePath) {
-        List<CarCsv> cars = parseCarsFromFile(filePath);
-        saveCarsToDatabase(cars);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        long processedRows = report.getInserted() + report.getUpdated() + report.getUnchanged();
+        recordImport(mode, processedRows, elapsedMillis);
+        log.info("Imported cars from {} in {} ms ({} ms resolving dictionaries, {} rows/s) using {} mode: " +
+                "{} inserted, {} updated, {} unchanged, {} deleted",
+            filePath, elapsedMillis, dictionaryMillis, processedRows * 1000 / elapsedMillis, mode,
+            report.getInserted(), report.getUpdated(), report.getUnchanged(), report.getDeleted());
+        return report;
+    }
+
+    private <T> T timePhase(String phase, ImportMode mode, Supplier<T> action) {
+        return Timer.builder("car.import.phase")
+            .tag("phase", phase)
+            .tag("mode", mode.name())
+            .register(meterRegistry)
+            .record(action);
+    }
+
+    private void recordImport(ImportMode mode, long processedRows, long elapsedMillis) {
+        meterRegistry.counter("car.import.rows", "mode", mode.name()).increment(processedRows);
+        DistributionSummary.builder("car.import.throughput")
+            .baseUnit("rows.per.second")
+            .tag("mode", mode.name())
+            .register(meterRegistry)
+            .record(processedRows * 1000.0 / elapsedMillis);
+    }
+
+    private CarDictionary resolveDictionary(String filePath, ImportProgress progress) {
+        Map<String, Set<String>> modelNamesByProducer = new HashMap<>();
+        Set<String> categoryNames = new HashSet<>();
+        long totalRows = 0;
+
+        try (Reader reader = new FileReader(filePath)) {
+            for (CarCsv carCsv : createCsvToBean(reader)) {
+                validateCar(carCsv);
+                totalRows++;
+                modelNamesByProducer.computeIfAbsent(carCsv.getMake(), name -> new HashSet<>()).add(carCsv.getModel());
+                categoryNames.addAll(CarDictionary.splitCategories(carCsv.getCategory()));
+            }
+
+        } catch (FileNotFoundException e) {
+            log.error(e.getMessage());
+            throw new CsvFileNotFoundException(e.getMessage());
+        } catch (IOException e) {
+            log.error(e.getMessage());
+            throw new FileReadException(e.getMessage());
+        }
+        progress.setTotalRows(totalRows);
+        progress.checkCancelled();
+        return carDictionaryService.loadOrCreate(modelNamesByProducer, categoryNames);
     }
 
     private List<CarCsv> parseCarsFromFile(String filePath) {
         try (Reader reader = new FileReader(filePath)) {
-            return new CsvToBeanBuilder<CarCsv>(reader)
-                .withType(CarCsv.class)
-                .build()
-                .parse();
+            return createCsvToBean(reader).parse();
 
         } catch (FileNotFoundException e) {
             log.error(e.getMessage());
@@ -57,65 +149,121 @@ public class CsvCarService {
         }
     }
 
-    private void saveCarsToDatabase(List<CarCsv> cars) {
-        List<Car> carEntities = new ArrayList<>();
+    private long saveCarsToDatabase(List<CarCsv> cars, CarDictionary dictionary, ImportProgress progress) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Car> carEntities = new ArrayList<>();
 
-        for (CarCsv carCsv : cars) {
-            if (carCsv.getObjectId() == null) {
-                log.error("Illegal ID. ID cannot be null. Cannot save car.");
-                throw new IllegalIdException("Car ID cannot be null");
+            for (CarCsv carCsv : cars) {
+                carEntities.add(createCar(carCsv, dictionary));
             }
+            carRepository.saveAll(carEntities);
+        });
+        progress.addRows(cars.size());
+        return cars.size();
+    }
 
-            Producer producer = getOrCreateProducer(carCsv);
-            CarModel model = getOrCreateCarModel(carCsv, producer);
-            Set<Category> categories = getOrCreateCategories(carCsv);
+    private long writeChunks(String filePath, ImportProgress progress, Consumer<List<CarCsv>> chunkWriter) {
+        try (ChunkWorkerPool workerPool = new ChunkWorkerPool(properties.getWorkers())) {
+            long savedRows = readChunks(filePath, progress, chunk -> workerPool.submit(() -> {
+                chunkWriter.accept(chunk);
+                progress.addRows(chunk.size());
+            }));
+            workerPool.awaitCompletion();
+            return savedRows;
+        }
+    }
 
-            Car car = Car.builder()
-                .objectId(carCsv.getObjectId())
-                .year(carCsv.getYear())
-                .carModel(model)
-                .categories(categories)
-                .build();
+    private ImportReportDTO syncCars(String filePath, CarDictionary dictionary, boolean deleteMissing, ImportProgress progress) {
+        return transactionTemplate.execute(status -> {
+            carJdbcRepository.createSyncStage();
+            timePhase("stage", ImportMode.SYNC, () -> readChunks(filePath, progress, chunk -> {
+                carJdbcRepository.copyToSyncStage(createCars(chunk, dictionary));
+                progress.addRows(chunk.size());
+            }));
+            progress.checkCancelled();
+            return timePhase("merge", ImportMode.SYNC, () -> carJdbcRepository.mergeSyncStage(deleteMissing));
+        });
+    }
+
+    private long readChunks(String filePath, ImportProgress progress, Consumer<List<CarCsv>> chunkConsumer) {
+        int batchSize = properties.getBatchSize();
+        long readRows = 0;
+
+        try (Reader reader = new FileReader(filePath)) {
+            List<CarCsv> chunk = new ArrayList<>(batchSize);
+            for (CarCsv carCsv : createCsvToBean(reader)) {
+                chunk.add(carCsv);
+                if (chunk.size() == batchSize) {
+                    progress.checkCancelled();
+                    chunkConsumer.accept(chunk);
+                    readRows += chunk.size();
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                progress.checkCancelled();
+                chunkConsumer.accept(chunk);
+                readRows += chunk.size();
+            }
+
+        } catch (FileNotFoundException e) {
+            log.error(e.getMessage());
+            throw new CsvFileNotFoundException(e.getMessage());
+        } catch (IOException e) {
+            log.error(e.getMessage());
+            throw new FileReadException(e.getMessage());
+        }
+        return readRows;
+    }
 
-            carEntities.add(car);
+    private void persistChunk(List<CarCsv> chunk, CarDictionary dictionary) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (CarCsv carCsv : chunk) {
+                entityManager.persist(createCar(carCsv, dictionary));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
 
+    private void copyChunk(List<CarCsv> chunk, CarDictionary dictionary) {
+        List<Car> cars = createCars(chunk, dictionary);
+        transactionTemplate.executeWithoutResult(status -> carJdbcRepository.copyCars(cars));
+    }
+
+    private List<Car> createCars(List<CarCsv> chunk, CarDictionary dictionary) {
+        List<Car> cars = new ArrayList<>(chunk.size());
+        for (CarCsv carCsv : chunk) {
+            cars.add(createCar(carCsv, dictionary));
         }
-        carRepository.saveAll(carEntities);
-    }
-
-    private Set<Category> getOrCreateCategories(CarCsv carCsv) {
-        Set<Category> categories = new HashSet<>();
-        for (String categoryName : carCsv.getCategory().split(",")) {
-            categories.add(categoryCache.computeIfAbsent(categoryName.trim(), name -> categoryRepository.findByName(name)
-                .orElseGet(() -> {
-                    Category newCategory = Category.builder()
-                        .name(name)
-                        .build();
-                    return categoryRepository.save(newCategory);
-                })));
+        return cars;
+    }
+
+    private CsvToBean<CarCsv> createCsvToBean(Reader reader) {
+        return new CsvToBeanBuilder<CarCsv>(reader)
+            .withType(CarCsv.class)
+            .build();
+    }
+
+    private void validateCar(CarCsv carCsv) {
+        if (carCsv.getObjectId() == null || carCsv.getObjectId().isBlank()) {
+            log.error("Illegal ID. ID cannot be null. Cannot save car.");
+            throw new IllegalIdException("Car ID cannot be null");
         }
-        return categories;
-    }
-
-    private CarModel getOrCreateCarModel(CarCsv carCsv, Producer producer) {
-        String key = carCsv.getModel() + "-" + producer.getName();
-        return carModelCache.computeIfAbsent(key, k -> carModelRepository.findByProducerNameAndName(carCsv.getModel(), producer.getName())
-            .orElseGet(() -> {
-                CarModel newModel = CarModel.builder()
-                    .name(carCsv.getModel())
-                    .producer(producer)
-                    .build();
-                return carModelRepository.save(newModel);
-            }));
     }
 
-    private Producer getOrCreateProducer(CarCsv carCsv) {
-        return producerCache.computeIfAbsent(carCsv.getMake(), name -> producerRepository.findByName(name)
-            .orElseGet(() -> {
-                Producer newProducer = Producer.builder()
-                    .name(name)
-                    .build();
-                return producerRepository.save(newProducer);
-            }));
+    private ImportReportDTO insertedOnly(long insertedRows) {
+        return ImportReportDTO.builder()
+            .inserted(insertedRows)
+            .build();
+    }
+
+    private Car createCar(CarCsv carCsv, CarDictionary dictionary) {
+        return Car.builder()
+            .objectId(carCsv.getObjectId())
+            .year(carCsv.getYear())
+            .carModel(dictionary.getModel(carCsv.getMake(), carCsv.getModel()))
+            .categories(dictionary.getCategories(carCsv.getCategory()))
+            .build();
     }
 }
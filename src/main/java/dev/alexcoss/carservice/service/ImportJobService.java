@@ -0,0 +1,218 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.config.CsvImportProperties;
+import dev.alexcoss.carservice.dto.ImportJobDTO;
+import dev.alexcoss.carservice.dto.ImportReportDTO;
+import dev.alexcoss.carservice.service.csv.ImportJob;
+import dev.alexcoss.carservice.service.csv.ImportJobStatus;
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import dev.alexcoss.carservice.util.exception.EntityNotExistException;
+import dev.alexcoss.carservice.util.exception.FileReadException;
+import dev.alexcoss.carservice.util.exception.IllegalImportPathException;
+import dev.alexcoss.carservice.util.exception.ImportCancelledException;
+import dev.alexcoss.carservice.util.exception.ImportJobRejectedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(24);
+
+    private final CsvCarService csvCarService;
+    private final CsvImportProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(CsvCarService csvCarService, CsvImportProperties properties, Environment environment) {
+        this.csvCarService = csvCarService;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.getJobThreads(), properties.getJobThreads(),
+            0L, TimeUnit.MILLISECONDS, createQueue(properties.getJobQueueCapacity()), createThreadFactory(environment));
+    }
+
+    public ImportJobDTO submitUpload(MultipartFile file, ImportMode mode, Boolean deleteMissing) {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("car-import-", ".csv");
+            file.transferTo(tempFile);
+            return submit(new ImportJob(file.getOriginalFilename(), tempFile, true, resolveMode(mode), resolveDeleteMissing(deleteMissing)));
+
+        } catch (IOException e) {
+            deleteTemporaryFile(tempFile);
+            log.error("Cannot store uploaded file {}: {}", file.getOriginalFilename(), e.getMessage());
+            throw new FileReadException(e.getMessage());
+        } catch (RuntimeException e) {
+            deleteTemporaryFile(tempFile);
+            throw e;
+        }
+    }
+
+    public ImportJobDTO submitPath(String path, ImportMode mode, Boolean deleteMissing) {
+        Path directory = Path.of(properties.getDirectory()).toAbsolutePath().normalize();
+        Path file = directory.resolve(path).normalize();
+        if (!file.startsWith(directory)) {
+            log.error("Import path {} is outside of import directory {}", path, directory);
+            throw new IllegalImportPathException("Import path must be inside the import directory");
+        }
+        if (!Files.isRegularFile(file)) {
+            log.error("Import file {} not found", file);
+            throw new EntityNotExistException("Import file not found");
+        }
+        return submitFile(file, mode, deleteMissing);
+    }
+
+    public ImportJobDTO submitFile(Path file, ImportMode mode, Boolean deleteMissing) {
+        return submit(new ImportJob(file.getFileName().toString(), file, false, resolveMode(mode), resolveDeleteMissing(deleteMissing)));
+    }
+
+    public ImportJobDTO getJob(UUID id) {
+        return toDTO(findJob(id));
+    }
+
+    public List<ImportJobDTO> getJobs() {
+        return jobs.values().stream()
+            .sorted(Comparator.comparing(ImportJob::getSubmittedAt).reversed())
+            .map(this::toDTO)
+            .toList();
+    }
+
+    public ImportJobDTO cancelJob(UUID id) {
+        ImportJob job = findJob(id);
+        job.cancel();
+        if (job.getStartedAt() == null && job.isTemporaryFile()) {
+            deleteTemporaryFile(job.getFile());
+        }
+        log.info("Cancellation requested for import job {}", id);
+        return toDTO(job);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(ImportJob::cancel);
+        executor.shutdown();
+    }
+
+    private ImportJobDTO submit(ImportJob job) {
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        try {
+            job.setFuture(executor.submit(() -> run(job)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            log.error("Import job for {} rejected, queue is full", job.getFileName());
+            throw new ImportJobRejectedException("Too many import jobs, try again later");
+        }
+        log.info("Import job {} queued for {} using {} mode, delete missing: {}", job.getId(), job.getFileName(), job.getMode(),
+            job.isDeleteMissing());
+        return toDTO(job);
+    }
+
+    private void run(ImportJob job) {
+        if (!job.start()) {
+            return;
+        }
+        ImportReportDTO report;
+        try {
+            report = csvCarService.parseAndSaveCars(job.getFile().toString(), job.getMode(), job.isDeleteMissing(), job.getProgress());
+        } catch (ImportCancelledException e) {
+            deleteTemporaryFile(job);
+            job.finish(ImportJobStatus.CANCELLED, e.getMessage());
+            log.info("Import job {} cancelled after {} rows", job.getId(), job.getProgress().getRowsDone());
+            return;
+        } catch (RuntimeException e) {
+            deleteTemporaryFile(job);
+            job.finish(ImportJobStatus.FAILED, e.getMessage());
+            log.error("Import job {} failed: {}", job.getId(), e.getMessage());
+            return;
+        }
+        deleteTemporaryFile(job);
+        job.complete(report);
+        log.info("Import job {} completed", job.getId());
+    }
+
+    private ImportJob findJob(UUID id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            log.error("Import job by id: {} not found", id);
+            throw new EntityNotExistException("Import job not found");
+        }
+        return job;
+    }
+
+    private void evictFinishedJobs() {
+        Instant threshold = Instant.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private ImportMode resolveMode(ImportMode mode) {
+        return mode == null ? properties.getMode() : mode;
+    }
+
+    private boolean resolveDeleteMissing(Boolean deleteMissing) {
+        return deleteMissing == null ? properties.isDeleteMissing() : deleteMissing;
+    }
+
+    private void deleteTemporaryFile(ImportJob job) {
+        if (job.isTemporaryFile()) {
+            deleteTemporaryFile(job.getFile());
+        }
+    }
+
+    private void deleteTemporaryFile(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Cannot delete temporary import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private ImportJobDTO toDTO(ImportJob job) {
+        return ImportJobDTO.builder()
+            .id(job.getId())
+            .status(job.getStatus())
+            .fileName(job.getFileName())
+            .mode(job.getMode())
+            .deleteMissing(job.isDeleteMissing())
+            .rowsDone(job.getProgress().getRowsDone())
+            .totalRows(job.getProgress().getTotalRows())
+            .rowsPerSecond(job.getProgress().getRowsPerSecond())
+            .etaSeconds(job.getStatus() == ImportJobStatus.RUNNING ? job.getProgress().getEtaSeconds() : null)
+            .submittedAt(job.getSubmittedAt())
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .report(job.getReport())
+            .error(job.getError())
+            .build();
+    }
+
+    private static BlockingQueue<Runnable> createQueue(int capacity) {
+        return capacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(capacity);
+    }
+
+    private static ThreadFactory createThreadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name("import-job-", 0).factory();
+        }
+        return Thread.ofPlatform().name("import-job-", 0).factory();
+    }
+}
@@ -1,44 +1,123 @@
 package dev.alexcoss.carservice.service;
 
+import dev.alexcoss.carservice.dto.CursorPageDTO;
 import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.CarModel;
 import dev.alexcoss.carservice.model.Producer;
 import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.service.cursor.CursorCodec;
+import dev.alexcoss.carservice.service.typeahead.ProducerDeletedEvent;
+import dev.alexcoss.carservice.service.typeahead.ProducerSavedEvent;
+import dev.alexcoss.carservice.util.ETags;
+import dev.alexcoss.carservice.util.VersionedId;
 import dev.alexcoss.carservice.util.exception.EntityNotExistException;
 import dev.alexcoss.carservice.util.exception.IllegalProducerException;
+import dev.alexcoss.carservice.util.exception.IllegalSortException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed("service.calls")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProducerService {
 
+    private static final Map<String, Class<?>> CURSOR_PROPERTIES = Map.of("id", Long.class, "name", String.class);
+
     private final ProducerRepository producerRepository;
-    private final ModelMapper modelMapper;
+    private final ProducerMapper producerMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
 
     public ProducerDTO getProducerById(Long id) {
-        Producer producer = producerRepository.findById(id)
+        return producerRepository.findById(id)
+            .map(producerMapper::toDTO)
             .orElseThrow(() -> getEntityNotExistException(id));
-        return modelMapper.map(producer, ProducerDTO.class);
     }
 
-    public Page<ProducerDTO> getListOfProducers(Pageable pageable) {
-        return producerRepository.findAll(pageable)
-            .map(producer -> modelMapper.map(producer, ProducerDTO.class));
+    public String getProducerETag(Long id) {
+        ProducerRepository.Versions versions = producerRepository.findVersionsById(id)
+            .orElseThrow(() -> getEntityNotExistException(id));
+        return ETags.of(versions.getVersion());
+    }
+
+    public Page<VersionedId> getProducerVersions(Pageable pageable) {
+        return producerRepository.findVersions(pageable)
+            .map(this::toVersionedId);
+    }
+
+    public Page<VersionedId> searchProducerVersions(String search, Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            throw new IllegalSortException("Manufacturer search results are ranked by similarity and cannot be sorted");
+        }
+        return producerRepository.searchVersionsByName(search, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+            .map(this::toVersionedId);
+    }
+
+    public CursorPageDTO<VersionedId> getProducerVersionsAfter(String after, int size, Sort sort) {
+        Sort keysetSort = CursorCodec.keysetSort(sort, CURSOR_PROPERTIES);
+        ScrollPosition position = CursorCodec.decode(after, keysetSort, CURSOR_PROPERTIES);
+        int limit = CursorCodec.limit(size);
+
+        Window<Producer> window = producerRepository.findBy((root, criteriaQuery, builder) -> builder.conjunction(), query -> query
+            .sortBy(keysetSort)
+            .limit(limit)
+            .scroll(position));
+
+        return CursorPageDTO.<VersionedId>builder()
+            .content(window.stream().map(producer -> new VersionedId(producer.getId(), ETags.of(producer.getVersion()))).toList())
+            .size(limit)
+            .hasNext(window.hasNext())
+            .nextCursor(CursorCodec.nextCursor(window))
+            .build();
+    }
+
+    public Page<ProducerDTO> getProducers(Page<VersionedId> producerIds) {
+        Map<Long, Producer> producersById = fetchProducers(producerIds.map(VersionedId::id).getContent());
+
+        return new PageImpl<>(toProducerDTOs(producerIds.getContent(), producersById), producerIds.getPageable(), producerIds.getTotalElements());
+    }
+
+    public CursorPageDTO<ProducerDTO> getProducers(CursorPageDTO<VersionedId> producerIds) {
+        Map<Long, Producer> producersById = fetchProducers(producerIds.getContent().stream().map(VersionedId::id).toList());
+
+        return CursorPageDTO.<ProducerDTO>builder()
+            .content(toProducerDTOs(producerIds.getContent(), producersById))
+            .size(producerIds.getSize())
+            .hasNext(producerIds.isHasNext())
+            .nextCursor(producerIds.getNextCursor())
+            .build();
     }
 
     @Transactional
     public ProducerDTO createProducer(ProducerDTO producerDTO) {
         isValidProducer(producerDTO);
-        Producer savedProducer = producerRepository.save(modelMapper.map(producerDTO, Producer.class));
-        return modelMapper.map(savedProducer, ProducerDTO.class);
+        Producer savedProducer = producerRepository.save(producerMapper.toEntity(producerDTO));
+        eventPublisher.publishEvent(new ProducerSavedEvent(savedProducer.getId(), savedProducer.getName()));
+        return producerMapper.toDTO(savedProducer);
     }
 
     @Transactional
@@ -47,11 +126,11 @@ public class ProducerService {
         Producer existingProducer = producerRepository.findById(producerDTO.getId())
             .orElseThrow(() -> getEntityNotExistException(producerDTO.getId()));
 
-        modelMapper.getConfiguration().setSkipNullEnabled(true);
-        modelMapper.map(producerDTO, existingProducer);
+        producerMapper.merge(producerDTO, existingProducer);
 
         Producer updatedProducer = producerRepository.save(existingProducer);
-        return modelMapper.map(updatedProducer, ProducerDTO.class);
+        eventPublisher.publishEvent(new ProducerSavedEvent(updatedProducer.getId(), updatedProducer.getName()));
+        return producerMapper.toDTO(updatedProducer);
     }
 
     @Transactional
@@ -60,6 +139,39 @@ public class ProducerService {
         Producer producer = producerRepository.findById(id)
             .orElseThrow(() -> getEntityNotExistException(id));
         producerRepository.delete(producer);
+        evictCarModelsAfterCommit();
+        eventPublisher.publishEvent(new ProducerDeletedEvent(id));
+    }
+
+    private void evictCarModelsAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entityManagerFactory.getCache().evict(CarModel.class);
+                }
+            });
+        } else {
+            entityManagerFactory.getCache().evict(CarModel.class);
+        }
+    }
+
+    private VersionedId toVersionedId(ProducerRepository.Versions versions) {
+        return new VersionedId(versions.getId(), ETags.of(versions.getVersion()));
+    }
+
+    private List<ProducerDTO> toProducerDTOs(List<VersionedId> producerIds, Map<Long, Producer> producersById) {
+        return producerIds.stream()
+            .map(producerId -> producersById.get(producerId.id()))
+            .filter(Objects::nonNull)
+            .map(producerMapper::toDTO)
+            .toList();
+    }
+
+    private Map<Long, Producer> fetchProducers(List<Long> ids) {
+        List<Producer> producers = ids.isEmpty() ? List.of() : producerRepository.findAllById(ids);
+        return producers.stream()
+            .collect(Collectors.toMap(Producer::getId, Function.identity()));
     }
 
     private EntityNotExistException getEntityNotExistException(Long id) {
@@ -0,0 +1,118 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.dto.TypeaheadDTO;
+import dev.alexcoss.carservice.dto.TypeaheadSuggestionDTO;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.service.typeahead.CarModelDeletedEvent;
+import dev.alexcoss.carservice.service.typeahead.CarModelSavedEvent;
+import dev.alexcoss.carservice.service.typeahead.PrefixIndex;
+import dev.alexcoss.carservice.service.typeahead.ProducerDeletedEvent;
+import dev.alexcoss.carservice.service.typeahead.ProducerSavedEvent;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@Timed("service.calls")
+@RequiredArgsConstructor
+public class TypeaheadService {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final ProducerRepository producerRepository;
+    private final CarModelRepository carModelRepository;
+    private final PrefixIndex<TypeaheadSuggestionDTO> producers = new PrefixIndex<>();
+    private final PrefixIndex<TypeaheadSuggestionDTO> models = new PrefixIndex<>();
+    private final Map<Long, String> producerNames = new HashMap<>();
+    private final Map<Long, CarModelSavedEvent> modelsById = new HashMap<>();
+    private volatile boolean loaded;
+
+    public TypeaheadDTO suggest(String prefix, int limit) {
+        if (!loaded) {
+            loadIfAbsent();
+        }
+        int maxResults = Math.clamp(limit, 1, MAX_LIMIT);
+        return new TypeaheadDTO(producers.find(prefix, maxResults), models.find(prefix, maxResults));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void load() {
+        long startTime = System.nanoTime();
+        List<ProducerRepository.Name> producerRows = producerRepository.findAllNames();
+        List<CarModelRepository.Name> modelRows = carModelRepository.findAllNames();
+
+        producers.clear();
+        models.clear();
+        producerNames.clear();
+        modelsById.clear();
+        producerRows.forEach(producer -> putProducer(producer.getId(), producer.getName()));
+        modelRows.forEach(model -> putModel(new CarModelSavedEvent(model.getId(), model.getName(), model.getProducerId())));
+        loaded = true;
+
+        log.info("Loaded {} producer and {} model names for typeahead in {} ms", producers.size(), models.size(),
+            (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProducerSaved(ProducerSavedEvent event) {
+        putProducer(event.id(), event.name());
+        refreshModelsOf(event.id());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProducerDeleted(ProducerDeletedEvent event) {
+        producers.remove(event.id());
+        producerNames.remove(event.id());
+        modelsById.values().stream()
+            .filter(model -> event.id().equals(model.producerId()))
+            .toList()
+            .forEach(model -> putModel(new CarModelSavedEvent(model.id(), model.name(), null)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCarModelSaved(CarModelSavedEvent event) {
+        putModel(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCarModelDeleted(CarModelDeletedEvent event) {
+        models.remove(event.id());
+        modelsById.remove(event.id());
+    }
+
+    private synchronized void loadIfAbsent() {
+        if (!loaded) {
+            load();
+        }
+    }
+
+    private void putProducer(Long id, String name) {
+        producerNames.put(id, name);
+        producers.put(id, name, new TypeaheadSuggestionDTO(id, name, null));
+    }
+
+    private void putModel(CarModelSavedEvent model) {
+        modelsById.put(model.id(), model);
+        String manufacturer = model.producerId() == null ? null : producerNames.get(model.producerId());
+        models.put(model.id(), model.name(), new TypeaheadSuggestionDTO(model.id(), model.name(), manufacturer));
+    }
+
+    private void refreshModelsOf(Long producerId) {
+        modelsById.values().stream()
+            .filter(model -> producerId.equals(model.producerId()))
+            .toList()
+            .forEach(this::putModel);
+    }
+}
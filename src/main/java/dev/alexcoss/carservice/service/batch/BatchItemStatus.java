@@ -0,0 +1,14 @@
+package dev.alexcoss.carservice.service.batch;
+
+public enum BatchItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    INVALID,
+    FAILED;
+
+    public boolean isSuccessful() {
+        return this == CREATED || this == UPDATED || this == DELETED;
+    }
+}
@@ -0,0 +1,47 @@
+package dev.alexcoss.carservice.service.csv;
+
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+
+@RequiredArgsConstructor
+public class CarDictionary {
+
+    private final Map<String, CarModel> models;
+    private final Map<String, Category> categories;
+
+    public CarModel getModel(String producerName, String modelName) {
+        return models.get(modelKey(producerName, modelName));
+    }
+
+    public Set<Category> getCategories(String categoryNames) {
+        Set<Category> result = new HashSet<>();
+        for (String name : splitCategories(categoryNames)) {
+            result.add(categories.get(name));
+        }
+        return result;
+    }
+
+    public int size() {
+        return models.size() + categories.size();
+    }
+
+    public static String modelKey(String producerName, String modelName) {
+        return producerName + '\n' + modelName;
+    }
+
+    public static Set<String> splitCategories(String categoryNames) {
+        if (categoryNames == null || categoryNames.isBlank()) {
+            return Set.of();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : categoryNames.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        return names;
+    }
+}
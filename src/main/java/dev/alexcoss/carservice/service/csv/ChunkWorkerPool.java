@@ -0,0 +1,66 @@
+package dev.alexcoss.carservice.service.csv;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ChunkWorkerPool implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final Semaphore permits;
+    private final int workers;
+
+    public ChunkWorkerPool(int workers) {
+        this.workers = workers;
+        this.permits = new Semaphore(workers);
+    }
+
+    public void submit(Runnable task) {
+        acquire(1);
+        if (failure.get() != null) {
+            permits.release();
+            rethrowFailure();
+        }
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    public void awaitCompletion() {
+        acquire(workers);
+        permits.release(workers);
+        rethrowFailure();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private void acquire(int count) {
+        try {
+            permits.acquire(count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for import workers", e);
+        }
+    }
+
+    private void rethrowFailure() {
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+    }
+}
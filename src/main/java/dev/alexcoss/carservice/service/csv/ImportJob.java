@@ -0,0 +1,69 @@
+package dev.alexcoss.carservice.service.csv;
+
+import dev.alexcoss.carservice.dto.ImportReportDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Future;
+
+@Getter
+@RequiredArgsConstructor
+public class ImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final ImportProgress progress = new ImportProgress();
+    private final Instant submittedAt = Instant.now();
+    private final String fileName;
+    private final Path file;
+    private final boolean temporaryFile;
+    private final ImportMode mode;
+    private final boolean deleteMissing;
+
+    @Setter
+    private volatile Future<?> future;
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile ImportReportDTO report;
+    private volatile String error;
+
+    public synchronized boolean start() {
+        if (status != ImportJobStatus.QUEUED) {
+            return false;
+        }
+        status = ImportJobStatus.RUNNING;
+        startedAt = Instant.now();
+        progress.start();
+        return true;
+    }
+
+    public synchronized void complete(ImportReportDTO report) {
+        this.report = report;
+        finish(ImportJobStatus.COMPLETED, null);
+    }
+
+    public synchronized void finish(ImportJobStatus status, String error) {
+        this.status = status;
+        this.error = error;
+        this.finishedAt = Instant.now();
+        progress.finish();
+    }
+
+    public synchronized void cancel() {
+        progress.cancel();
+        if (status == ImportJobStatus.QUEUED) {
+            finish(ImportJobStatus.CANCELLED, null);
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+}
@@ -0,0 +1,9 @@
+package dev.alexcoss.carservice.service.csv;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
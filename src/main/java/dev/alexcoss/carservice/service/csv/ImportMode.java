@@ -0,0 +1,8 @@
+package dev.alexcoss.carservice.service.csv;
+
+public enum ImportMode {
+    IN_MEMORY,
+    STREAMING,
+    COPY,
+    SYNC
+}
@@ -0,0 +1,64 @@
+package dev.alexcoss.carservice.service.csv;
+
+import dev.alexcoss.carservice.util.exception.ImportCancelledException;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportProgress {
+
+    private final AtomicLong rowsDone = new AtomicLong();
+    private volatile long startNanos;
+    private volatile long finishNanos;
+    @Getter
+    private volatile Long totalRows;
+    @Getter
+    private volatile boolean cancelled;
+
+    public void start() {
+        startNanos = System.nanoTime();
+    }
+
+    public void finish() {
+        finishNanos = System.nanoTime();
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public void addRows(long rows) {
+        rowsDone.addAndGet(rows);
+    }
+
+    public long getRowsDone() {
+        return rowsDone.get();
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public void checkCancelled() {
+        if (cancelled) {
+            throw new ImportCancelledException("Import was cancelled");
+        }
+    }
+
+    public long getRowsPerSecond() {
+        if (startNanos == 0) {
+            return 0;
+        }
+        long endNanos = finishNanos == 0 ? System.nanoTime() : finishNanos;
+        long elapsedMillis = Math.max(1, (endNanos - startNanos) / 1_000_000);
+        return getRowsDone() * 1000 / elapsedMillis;
+    }
+
+    public Long getEtaSeconds() {
+        long rowsPerSecond = getRowsPerSecond();
+        if (totalRows == null || rowsPerSecond == 0) {
+            return null;
+        }
+        return Math.max(0, totalRows - getRowsDone()) / rowsPerSecond;
+    }
+}
@@ -0,0 +1,92 @@
+package dev.alexcoss.carservice.service.cursor;
+
+import dev.alexcoss.carservice.util.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+public final class CursorCodec {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String ID_PROPERTY = "id";
+
+    private CursorCodec() {
+    }
+
+    public static Sort keysetSort(Sort sort, Map<String, Class<?>> sortableProperties) {
+        for (Sort.Order order : sort) {
+            if (!sortableProperties.containsKey(order.getProperty())) {
+                throw new InvalidCursorException("Unsupported sort property: " + order.getProperty());
+            }
+        }
+        return sort.getOrderFor(ID_PROPERTY) == null ? sort.and(Sort.by(ID_PROPERTY)) : sort;
+    }
+
+    public static int limit(int size) {
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
+    }
+
+    public static ScrollPosition decode(String cursor, Sort sort, Map<String, Class<?>> sortableProperties) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            for (String pair : decoded.split("&")) {
+                int separator = pair.indexOf('=');
+                String property = URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8);
+                String value = URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+                keys.put(property, convert(value, sortableProperties.get(property)));
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        Set<String> sortProperties = sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+        if (!keys.keySet().equals(sortProperties)) {
+            throw new InvalidCursorException("Cursor does not match the requested sort");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static String nextCursor(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        return encode((KeysetScrollPosition) window.positionAt(window.size() - 1));
+    }
+
+    public static String encode(KeysetScrollPosition position) {
+        StringJoiner joiner = new StringJoiner("&");
+        position.getKeys().forEach((property, value) -> joiner.add(
+            URLEncoder.encode(property, StandardCharsets.UTF_8) + '=' + URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8)));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object convert(String value, Class<?> type) {
+        if (type == null) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        return value;
+    }
+}
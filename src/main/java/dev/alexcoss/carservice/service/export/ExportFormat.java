@@ -0,0 +1,6 @@
+package dev.alexcoss.carservice.service.export;
+
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
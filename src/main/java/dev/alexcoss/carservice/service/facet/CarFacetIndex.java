@@ -0,0 +1,233 @@
+package dev.alexcoss.carservice.service.facet;
+
+import dev.alexcoss.carservice.dto.CarFacetsDTO;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.dto.FacetCountDTO;
+import dev.alexcoss.carservice.repository.CarFacetRepository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class CarFacetIndex {
+
+    private static final int NO_VALUE = CarFacetRepository.NO_VALUE;
+    private static final Comparator<FacetCountDTO> BY_COUNT =
+        Comparator.comparingLong(FacetCountDTO::count).reversed().thenComparing(FacetCountDTO::value);
+
+    private final Instant indexedAt;
+    private final int size;
+    private final int[] modelOrdinals;
+    private final short[] years;
+    private final int firstYear;
+    private final int lastYear;
+    private final String[] modelNames;
+    private final String[] producerNames;
+    private final String[] categoryNames;
+    private final BitSet[] categoryCars;
+
+    private CarFacetIndex(Builder builder, Instant indexedAt) {
+        this.indexedAt = indexedAt;
+        this.size = builder.size;
+        this.modelOrdinals = Arrays.copyOf(builder.modelOrdinals, builder.size);
+        this.years = Arrays.copyOf(builder.years, builder.size);
+        this.firstYear = builder.firstYear;
+        this.lastYear = builder.lastYear;
+        this.modelNames = builder.modelNames;
+        this.producerNames = builder.producerNames;
+        this.categoryNames = builder.categoryNames;
+        this.categoryCars = builder.categoryCars;
+    }
+
+    public static Builder builder(List<CarFacetRepository.ModelName> models, List<CarFacetRepository.CategoryName> categories) {
+        return new Builder(models, categories);
+    }
+
+    public Instant getIndexedAt() {
+        return indexedAt;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public CarFacetsDTO count(CarFilterDTO carFilterDTO) {
+        boolean[] allowedModels = allowedModels(carFilterDTO.getManufacturer(), carFilterDTO.getModel());
+        BitSet categoryFilter = carFilterDTO.getCategory() == null ? null : carsInCategory(carFilterDTO.getCategory());
+        Integer minYear = carFilterDTO.getMinYear();
+        Integer maxYear = carFilterDTO.getMaxYear();
+
+        BitSet matched = new BitSet(size);
+        long[] modelCounts = new long[modelNames.length];
+        long[] yearCounts = new long[lastYear >= firstYear ? lastYear - firstYear + 1 : 0];
+        long total = 0;
+
+        int car = categoryFilter == null ? 0 : categoryFilter.nextSetBit(0);
+        while (car >= 0 && car < size) {
+            int model = modelOrdinals[car];
+            int year = years[car];
+            if ((allowedModels == null || model != NO_VALUE && allowedModels[model]) && matchesYear(year, minYear, maxYear)) {
+                matched.set(car);
+                total++;
+                if (model != NO_VALUE) {
+                    modelCounts[model]++;
+                }
+                if (year != NO_VALUE) {
+                    yearCounts[year - firstYear]++;
+                }
+            }
+            car = categoryFilter == null ? car + 1 : categoryFilter.nextSetBit(car + 1);
+        }
+
+        return new CarFacetsDTO(total,
+            countsByName(producerNames, modelCounts),
+            countsByName(modelNames, modelCounts),
+            countCategories(matched),
+            countYears(yearCounts),
+            indexedAt);
+    }
+
+    private boolean[] allowedModels(String manufacturer, String model) {
+        if (manufacturer == null && model == null) {
+            return null;
+        }
+        boolean[] allowed = new boolean[modelNames.length];
+        for (int i = 0; i < modelNames.length; i++) {
+            allowed[i] = (manufacturer == null || manufacturer.equals(producerNames[i]))
+                && (model == null || model.equals(modelNames[i]));
+        }
+        return allowed;
+    }
+
+    private BitSet carsInCategory(String category) {
+        BitSet cars = new BitSet(size);
+        for (int i = 0; i < categoryNames.length; i++) {
+            if (category.equals(categoryNames[i])) {
+                cars.or(categoryCars[i]);
+            }
+        }
+        return cars;
+    }
+
+    private static boolean matchesYear(int year, Integer minYear, Integer maxYear) {
+        if (year == NO_VALUE) {
+            return minYear == null && maxYear == null;
+        }
+        return (minYear == null || year >= minYear) && (maxYear == null || year <= maxYear);
+    }
+
+    private static List<FacetCountDTO> countsByName(String[] names, long[] counts) {
+        Map<String, Long> countsByName = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (counts[i] > 0 && names[i] != null) {
+                countsByName.merge(names[i], counts[i], Long::sum);
+            }
+        }
+        return sorted(countsByName);
+    }
+
+    private List<FacetCountDTO> countCategories(BitSet matched) {
+        Map<String, Long> countsByName = new HashMap<>();
+        for (int i = 0; i < categoryNames.length; i++) {
+            BitSet cars = (BitSet) categoryCars[i].clone();
+            cars.and(matched);
+            int count = cars.cardinality();
+            if (count > 0) {
+                countsByName.merge(categoryNames[i], (long) count, Long::sum);
+            }
+        }
+        return sorted(countsByName);
+    }
+
+    private List<FacetCountDTO> countYears(long[] yearCounts) {
+        List<FacetCountDTO> counts = new ArrayList<>();
+        for (int i = 0; i < yearCounts.length; i++) {
+            if (yearCounts[i] > 0) {
+                counts.add(new FacetCountDTO(String.valueOf(firstYear + i), yearCounts[i]));
+            }
+        }
+        return counts;
+    }
+
+    private static List<FacetCountDTO> sorted(Map<String, Long> countsByName) {
+        return countsByName.entrySet().stream()
+            .map(entry -> new FacetCountDTO(entry.getKey(), entry.getValue()))
+            .sorted(BY_COUNT)
+            .toList();
+    }
+
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final Map<Long, Integer> modelOrdinalsById = new HashMap<>();
+        private final Map<Long, Integer> categoryOrdinalsById = new HashMap<>();
+        private final String[] modelNames;
+        private final String[] producerNames;
+        private final String[] categoryNames;
+        private final BitSet[] categoryCars;
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int[] modelOrdinals = new int[INITIAL_CAPACITY];
+        private short[] years = new short[INITIAL_CAPACITY];
+        private int size;
+        private int firstYear = Integer.MAX_VALUE;
+        private int lastYear = Integer.MIN_VALUE;
+
+        private Builder(List<CarFacetRepository.ModelName> models, List<CarFacetRepository.CategoryName> categories) {
+            modelNames = new String[models.size()];
+            producerNames = new String[models.size()];
+            for (int i = 0; i < models.size(); i++) {
+                modelOrdinalsById.put(models.get(i).id(), i);
+                modelNames[i] = models.get(i).name();
+                producerNames[i] = models.get(i).producer();
+            }
+
+            categoryNames = new String[categories.size()];
+            categoryCars = new BitSet[categories.size()];
+            for (int i = 0; i < categories.size(); i++) {
+                categoryOrdinalsById.put(categories.get(i).id(), i);
+                categoryNames[i] = categories.get(i).name();
+                categoryCars[i] = new BitSet();
+            }
+        }
+
+        public void addCar(long id, long modelId, int year) {
+            if (size > 0 && id <= ids[size - 1]) {
+                throw new IllegalStateException("Cars must be added in ascending id order");
+            }
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                modelOrdinals = Arrays.copyOf(modelOrdinals, capacity);
+                years = Arrays.copyOf(years, capacity);
+            }
+
+            ids[size] = id;
+            modelOrdinals[size] = modelOrdinalsById.getOrDefault(modelId, NO_VALUE);
+            years[size] = (short) year;
+            if (year != NO_VALUE) {
+                firstYear = Math.min(firstYear, year);
+                lastYear = Math.max(lastYear, year);
+            }
+            size++;
+        }
+
+        public void addCategory(long carId, long categoryId) {
+            int car = Arrays.binarySearch(ids, 0, size, carId);
+            Integer category = categoryOrdinalsById.get(categoryId);
+            if (car >= 0 && category != null) {
+                categoryCars[category].set(car);
+            }
+        }
+
+        public CarFacetIndex build(Instant indexedAt) {
+            return new CarFacetIndex(this, indexedAt);
+        }
+    }
+}
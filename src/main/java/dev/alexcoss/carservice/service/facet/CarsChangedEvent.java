@@ -0,0 +1,4 @@
+package dev.alexcoss.carservice.service.facet;
+
+public record CarsChangedEvent() {
+}
@@ -0,0 +1,94 @@
+package dev.alexcoss.carservice.service.typeahead;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+public final class PrefixIndex<T> {
+
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final char PREFIX_END = '\uffff';
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final ConcurrentSkipListMap<String, T> names = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, T> words = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> namesById = new HashMap<>();
+
+    public synchronized void put(Long id, String name, T value) {
+        remove(id);
+        String normalized = normalize(name);
+        namesById.put(id, normalized);
+        names.put(key(normalized, id), value);
+        for (int start : wordStarts(normalized)) {
+            words.put(key(normalized.substring(start), id), value);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        String normalized = namesById.remove(id);
+        if (normalized == null) {
+            return;
+        }
+        names.remove(key(normalized, id));
+        for (int start : wordStarts(normalized)) {
+            words.remove(key(normalized.substring(start), id));
+        }
+    }
+
+    public synchronized void clear() {
+        names.clear();
+        words.clear();
+        namesById.clear();
+    }
+
+    public synchronized int size() {
+        return namesById.size();
+    }
+
+    public List<T> find(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Set<T> matches = new LinkedHashSet<>();
+        collect(names, normalized, limit, matches);
+        collect(words, normalized, limit, matches);
+        return new ArrayList<>(matches);
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.strip(), Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> void collect(NavigableMap<String, T> keys, String prefix, int limit, Set<T> matches) {
+        for (T value : keys.subMap(prefix, true, prefix + PREFIX_END, false).values()) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            matches.add(value);
+        }
+    }
+
+    private static List<Integer> wordStarts(String normalized) {
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 1; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i)) && !Character.isLetterOrDigit(normalized.charAt(i - 1))) {
+                starts.add(i);
+            }
+        }
+        return starts;
+    }
+
+    private static String key(String normalized, Long id) {
+        return normalized + ID_SEPARATOR + id;
+    }
+}
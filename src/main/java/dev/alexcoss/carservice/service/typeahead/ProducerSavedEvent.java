@@ -0,0 +1,4 @@
+package dev.alexcoss.carservice.service.typeahead;
+
+public record ProducerSavedEvent(Long id, String name) {
+}
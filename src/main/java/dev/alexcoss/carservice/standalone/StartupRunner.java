@@ -1,21 +1,25 @@
 package dev.alexcoss.carservice.standalone;
 
-import dev.alexcoss.carservice.service.CsvCarService;
-import jakarta.annotation.PostConstruct;
+import dev.alexcoss.carservice.service.ImportJobService;
+import dev.alexcoss.carservice.service.csv.ImportMode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
+
 @Component
 @RequiredArgsConstructor
 @Profile("standalone")
 public class StartupRunner {
     private static final String FILE_PATH = "src/main/resources/csv/small_file.csv";
 
-    private final CsvCarService csvCarService;
+    private final ImportJobService importJobService;
 
-    @PostConstruct
+    @EventListener(ApplicationReadyEvent.class)
     public void run() {
-        csvCarService.parseAndSaveCars(FILE_PATH);
+        importJobService.submitFile(Path.of(FILE_PATH), ImportMode.SYNC, false);
     }
 }
@@ -0,0 +1,63 @@
+package dev.alexcoss.carservice.util;
+
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.CursorPageDTO;
+import dev.alexcoss.carservice.dto.ProducerDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(Long... versions) {
+        StringJoiner eTag = new StringJoiner(".", "\"", "\"");
+        for (Long version : versions) {
+            eTag.add(version == null ? "-" : version.toString());
+        }
+        return eTag.toString();
+    }
+
+    public static String of(ProducerDTO producerDTO) {
+        return of(producerDTO.getVersion());
+    }
+
+    public static String of(CarModelDTO carModelDTO) {
+        ProducerDTO producerDTO = carModelDTO.getProducer();
+        return of(carModelDTO.getVersion(), producerDTO == null ? null : producerDTO.getVersion());
+    }
+
+    public static String of(CarDTO carDTO) {
+        CarModelDTO carModelDTO = carDTO.getCarModel();
+        ProducerDTO producerDTO = carModelDTO == null ? null : carModelDTO.getProducer();
+        return of(carDTO.getVersion(), carModelDTO == null ? null : carModelDTO.getVersion(),
+            producerDTO == null ? null : producerDTO.getVersion());
+    }
+
+    public static <T> String ofPage(Page<T> page, Function<T, Long> id, Function<T, String> eTag) {
+        StringBuilder content = new StringBuilder()
+            .append(page.getNumber()).append('/')
+            .append(page.getSize()).append('/')
+            .append(page.getTotalElements());
+        page.forEach(item -> content.append(';').append(id.apply(item)).append('=').append(eTag.apply(item)));
+        return digest(content);
+    }
+
+    public static <T> String ofPage(CursorPageDTO<T> page, Function<T, Long> id, Function<T, String> eTag) {
+        StringBuilder content = new StringBuilder()
+            .append(page.getSize()).append('/')
+            .append(page.getNextCursor());
+        page.getContent().forEach(item -> content.append(';').append(id.apply(item)).append('=').append(eTag.apply(item)));
+        return digest(content);
+    }
+
+    private static String digest(CharSequence content) {
+        return '"' + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + '"';
+    }
+}
@@ -0,0 +1,4 @@
+package dev.alexcoss.carservice.util;
+
+public record VersionedId(Long id, String eTag) {
+}
@@ -0,0 +1,7 @@
+package dev.alexcoss.carservice.util.exception;
+
+public class ExportFailedException extends RuntimeException {
+    public ExportFailedException(String message) {
+        super(message);
+    }
+}
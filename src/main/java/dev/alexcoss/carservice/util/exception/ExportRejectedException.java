@@ -0,0 +1,7 @@
+package dev.alexcoss.carservice.util.exception;
+
+public class ExportRejectedException extends RuntimeException {
+    public ExportRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.alexcoss.carservice.util.exception;
+
+public class IllegalBatchException extends RuntimeException {
+    public IllegalBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.alexcoss.carservice.util.exception;
+
+public class IllegalImportPathException extends RuntimeException {
+    public IllegalImportPathException(String message) {
+        super(message);
+    }
+}
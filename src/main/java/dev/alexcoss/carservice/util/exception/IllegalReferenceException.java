@@ -0,0 +1,7 @@
+package dev.alexcoss.carservice.util.exception;
+
+public class IllegalReferenceException extends RuntimeException {
+    public IllegalReferenceException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.alexcoss.carservice.util.exception;
+
+public class IllegalSortException extends RuntimeException {
+    public IllegalSortException(String message) {
+        super(message);
+    }
+}
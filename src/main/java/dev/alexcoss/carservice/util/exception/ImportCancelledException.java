@@ -0,0 +1,7 @@
+package dev.alexcoss.carservice.util.exception;
+
+public class ImportCancelledException extends RuntimeException {
+    public ImportCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.alexcoss.carservice.util.exception;
+
+public class ImportJobRejectedException extends RuntimeException {
+    public ImportJobRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+ALTER SEQUENCE car.producer_producer_id_seq INCREMENT BY 50;
+ALTER SEQUENCE car.model_model_id_seq INCREMENT BY 50;
+ALTER SEQUENCE car.category_category_id_seq INCREMENT BY 50;
+ALTER SEQUENCE car.car_id_seq INCREMENT BY 50;
+
+SELECT setval('car.producer_producer_id_seq', COALESCE((SELECT MAX(producer_id) FROM car.producer), 0) + 50);
+SELECT setval('car.model_model_id_seq', COALESCE((SELECT MAX(model_id) FROM car.model), 0) + 50);
+SELECT setval('car.category_category_id_seq', COALESCE((SELECT MAX(category_id) FROM car.category), 0) + 50);
+SELECT setval('car.car_id_seq', COALESCE((SELECT MAX(id) FROM car.car), 0) + 50);
@@ -0,0 +1,26 @@
+DELETE
+FROM car.car c
+    USING car.car d
+WHERE c.object_id = d.object_id
+  AND c.id > d.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS car_object_id_uindex ON car.car (object_id);
+
+CREATE OR REPLACE FUNCTION car.car_content_hash(year VARCHAR, model_id BIGINT, category_ids BIGINT[])
+    RETURNS VARCHAR(32)
+    LANGUAGE sql
+    IMMUTABLE
+AS
+$$
+SELECT md5(concat_ws('|', year, coalesce(model_id::text, ''), coalesce(array_to_string(category_ids, ','), '')))
+$$;
+
+ALTER TABLE car.car
+    ADD COLUMN IF NOT EXISTS content_hash VARCHAR(32);
+
+UPDATE car.car c
+SET content_hash = car.car_content_hash(c.year, c.model_id,
+                                        ARRAY(SELECT cc.category_id
+                                              FROM car.car_category cc
+                                              WHERE cc.car_id = c.id
+                                              ORDER BY cc.category_id));
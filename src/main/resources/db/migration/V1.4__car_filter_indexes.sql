@@ -0,0 +1,19 @@
+ALTER TABLE car.car
+    ADD COLUMN IF NOT EXISTS year_number SMALLINT GENERATED ALWAYS AS (year::SMALLINT) STORED;
+
+CREATE INDEX IF NOT EXISTS car_year_number_index ON car.car (year_number);
+
+CREATE INDEX IF NOT EXISTS car_model_id_index ON car.car (model_id);
+
+CREATE INDEX IF NOT EXISTS car_category_category_id_index ON car.car_category (category_id);
+
+CREATE INDEX IF NOT EXISTS model_name_index ON car.model (name);
+
+CREATE INDEX IF NOT EXISTS model_producer_id_index ON car.model (producer_id);
+
+CREATE INDEX IF NOT EXISTS category_name_index ON car.category (name);
+
+ANALYZE car.car;
+ANALYZE car.car_category;
+ANALYZE car.model;
+ANALYZE car.category;
@@ -0,0 +1,8 @@
+ALTER TABLE car.producer
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE car.model
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE car.car
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,30 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE INDEX IF NOT EXISTS producer_name_trgm_index ON car.producer USING gin (name public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS model_name_trgm_index ON car.model USING gin (name public.gin_trgm_ops);
+
+CREATE OR REPLACE FUNCTION car.match_model_names(search TEXT)
+    RETURNS TABLE
+            (
+                model_id BIGINT,
+                score    REAL
+            )
+    LANGUAGE sql
+    STABLE
+AS
+$$
+SELECT matches.model_id, max(matches.score)
+FROM (SELECT m.model_id, public.word_similarity(search, m.name) AS score
+      FROM car.model m
+      WHERE search OPERATOR(public.<%) m.name
+      UNION ALL
+      SELECT m.model_id, public.word_similarity(search, p.name)
+      FROM car.producer p
+               JOIN car.model m ON m.producer_id = p.producer_id
+      WHERE search OPERATOR(public.<%) p.name) matches
+GROUP BY matches.model_id
+$$;
+
+ANALYZE car.producer;
+ANALYZE car.model;
@@ -0,0 +1,11 @@
+DROP INDEX IF EXISTS car.car_year_number_index;
+CREATE INDEX IF NOT EXISTS car_year_number_index ON car.car (year_number) INCLUDE (id);
+
+DROP INDEX IF EXISTS car.car_model_id_index;
+CREATE INDEX IF NOT EXISTS car_model_id_index ON car.car (model_id) INCLUDE (id);
+
+DROP INDEX IF EXISTS car.car_category_category_id_index;
+CREATE INDEX IF NOT EXISTS car_category_category_id_index ON car.car_category (category_id) INCLUDE (car_id);
+
+ANALYZE car.car;
+ANALYZE car.car_category;
@@ -0,0 +1,22 @@
+DO
+$$
+    DECLARE
+        duplicates BIGINT;
+        examples   TEXT;
+    BEGIN
+        SELECT count(*), string_agg(object_id, ', ' ORDER BY object_id) FILTER (WHERE ordinal <= 10)
+        INTO duplicates, examples
+        FROM (SELECT object_id, row_number() OVER (ORDER BY object_id) AS ordinal
+              FROM car.car
+              WHERE object_id IS NOT NULL
+              GROUP BY object_id
+              HAVING count(*) > 1) d;
+
+        IF duplicates > 0 THEN
+            RAISE EXCEPTION 'car.car has % object_id values shared by several rows (e.g. %), merge or remove them before car_object_id_uindex can be created',
+                duplicates, examples;
+        END IF;
+    END
+$$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS car_object_id_uindex ON car.car (object_id);
@@ -0,0 +1,192 @@
+package dev.alexcoss.carservice.config;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.config.metrics.HibernateCacheMetrics;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.CacheRegions;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarJdbcRepository;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarRepository;
+import dev.alexcoss.carservice.repository.CategoryRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.service.ProducerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({HibernateCacheConfig.class, EntityCacheProperties.class, CarJdbcRepository.class, ProducerService.class,
+    ProducerMapper.class})
+class HibernateCacheTest extends PostgresContainerTest {
+
+    private static final String CAR_CATEGORIES_ROLE = Car.class.getName() + ".categories";
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CarJdbcRepository carJdbcRepository;
+
+    @Autowired
+    private ProducerService producerService;
+
+    @Autowired
+    private HibernateCacheMetrics hibernateCacheMetrics;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Producer producer;
+
+    private Car car;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+        entityManagerFactory.getCache().evictAll();
+
+        producer = producerRepository.save(Producer.builder().name("Audi").build());
+        CarModel carModel = carModelRepository.save(CarModel.builder().name("Q3").producer(producer).build());
+        Category suv = categoryRepository.save(Category.builder().name("SUV").build());
+        Category coupe = categoryRepository.save(Category.builder().name("Coupe").build());
+        car = carRepository.save(Car.builder().objectId("A1").year("2020").carModel(carModel)
+            .categories(new HashSet<>(Set.of(suv, coupe))).build());
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testReferenceDataOfCarIsServedFromCache() {
+        loadCar();
+        long firstLoad = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        loadCar();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(firstLoad > 1);
+        assertEquals(1, statistics.getCacheRegionStatistics(CacheRegions.CAR_MODELS).getHitCount());
+        assertEquals(1, statistics.getCacheRegionStatistics(CacheRegions.PRODUCERS).getHitCount());
+        assertEquals(2, statistics.getCacheRegionStatistics(CacheRegions.CATEGORIES).getHitCount());
+        assertEquals(1, statistics.getCacheRegionStatistics(CacheRegions.CAR_CATEGORIES).getHitCount());
+    }
+
+    @Test
+    void testNameLookupsUseQueryCache() {
+        producerRepository.findByName("Audi");
+        categoryRepository.findByName("SUV");
+        carModelRepository.findByProducerNameAndName("Audi", "Q3");
+        statistics.clear();
+
+        assertEquals("Audi", producerRepository.findByName("Audi").orElseThrow().getName());
+        assertEquals("SUV", categoryRepository.findByName("SUV").orElseThrow().getName());
+        assertEquals("Q3", carModelRepository.findByProducerNameAndName("Audi", "Q3").orElseThrow().getName());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testQueryCacheIsInvalidatedByEntityWrites() {
+        producerRepository.findByName("BMW");
+
+        producerRepository.save(Producer.builder().name("BMW").build());
+
+        assertTrue(producerRepository.findByName("BMW").isPresent());
+    }
+
+    @Test
+    void testJdbcDeleteEvictsCachedCategories() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        loadCar();
+        assertTrue(cache.containsCollection(CAR_CATEGORIES_ROLE, car.getId()));
+
+        carJdbcRepository.deleteCars(List.of(car.getId()));
+
+        assertFalse(cache.containsCollection(CAR_CATEGORIES_ROLE, car.getId()));
+    }
+
+    @Test
+    void testProducerDeleteEvictsCachedCarModels() {
+        loadCar();
+        assertTrue(entityManagerFactory.getCache().contains(CarModel.class, car.getCarModel().getId()));
+
+        producerService.deleteProducer(producer.getId());
+
+        assertFalse(entityManagerFactory.getCache().contains(CarModel.class, car.getCarModel().getId()));
+        List<Car> cars = transactionTemplate.execute(status -> {
+            List<Car> loaded = carRepository.findAll();
+            loaded.forEach(loadedCar -> loadedCar.getCarModel().getProducer());
+            return loaded;
+        });
+        assertEquals(1, cars.size());
+        assertNull(cars.get(0).getCarModel().getProducer());
+    }
+
+    @Test
+    void testHitRatioIsExposedPerRegion() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hibernateCacheMetrics.bindTo(meterRegistry);
+
+        loadCar();
+        loadCar();
+
+        assertEquals(0.5, meterRegistry.get("hibernate.cache.hit.ratio").tag("region", CacheRegions.CAR_MODELS).gauge().value());
+        assertEquals(1.0, meterRegistry.get("hibernate.cache.requests").tags("region", CacheRegions.PRODUCERS, "result", "hit")
+            .functionCounter().count());
+    }
+
+    private void loadCar() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Car loaded = carRepository.findById(car.getId()).orElseThrow();
+            loaded.getCarModel().getProducer().getName();
+            loaded.getCategories().size();
+        });
+    }
+}
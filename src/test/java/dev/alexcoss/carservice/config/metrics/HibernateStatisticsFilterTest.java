@@ -0,0 +1,130 @@
+package dev.alexcoss.carservice.config.metrics;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.config.MetricsConfig;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MetricsConfig.class, SimpleMeterRegistry.class})
+class HibernateStatisticsFilterTest extends PostgresContainerTest {
+
+    private static final int SEEDED_CARS = 3;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private HibernateStatisticsFilter filter;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+        meterRegistry.clear();
+        filter = new HibernateStatisticsFilter(meterRegistry);
+
+        Producer producer = producerRepository.save(Producer.builder().name("Audi").build());
+        CarModel carModel = carModelRepository.save(CarModel.builder().name("Q3").producer(producer).build());
+        for (int i = 0; i < SEEDED_CARS; i++) {
+            carRepository.save(Car.builder().objectId("A" + i).year("2020").carModel(carModel).build());
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testRequestRecordsQueriesAndEntityLoadsTaggedByEndpointAndFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/cars");
+        request.setQueryString("manufacturer=Audi&minYear=2019&model=&size=10");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/cars");
+                transactionTemplate.executeWithoutResult(status -> carRepository.findAll().forEach(car -> car.getCarModel().getName()));
+            }
+        }));
+
+        DistributionSummary queries = summary("hibernate.request.queries", "GET /api/v1/cars", "manufacturer+minYear");
+        DistributionSummary entityLoads = summary("hibernate.request.entity.loads", "GET /api/v1/cars", "manufacturer+minYear");
+        assertEquals(1, queries.count());
+        assertEquals(2, queries.totalAmount());
+        assertEquals(SEEDED_CARS + 2, entityLoads.totalAmount());
+    }
+
+    @Test
+    void testWorkOutsideRequestIsNotAttributed() throws Exception {
+        carRepository.findAll();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/unmapped"), new MockHttpServletResponse(), new MockFilterChain());
+
+        DistributionSummary queries = summary("hibernate.request.queries", RequestTags.NONE, RequestTags.NONE);
+        assertEquals(1, queries.count());
+        assertEquals(0, queries.totalAmount());
+    }
+
+    @Test
+    void testFilterShapeIgnoresBodyParameters() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/imports");
+        request.setQueryString("mode=SYNC");
+        request.setParameter("manufacturer", "Audi");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/imports");
+            }
+        }));
+
+        assertEquals(1, summary("hibernate.request.queries", "POST /api/v1/imports", RequestTags.NONE).count());
+    }
+
+    private DistributionSummary summary(String name, String endpoint, String filterShape) {
+        return meterRegistry.get(name).tags("endpoint", endpoint, "filter", filterShape).summary();
+    }
+}
@@ -0,0 +1,122 @@
+package dev.alexcoss.carservice.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJwtAuthenticationProviderTest {
+
+    private JwtDecoder jwtDecoder;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingJwtAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        JwtConverterProperties converterProperties = new JwtConverterProperties();
+        converterProperties.setResourceId("car-client");
+        converterProperties.setPrincipalAttribute("principal_username");
+        JwtAuthenticationCacheProperties cacheProperties = new JwtAuthenticationCacheProperties();
+        cacheProperties.setMaximumTimeToLive(Duration.ofMinutes(5));
+
+        jwtDecoder = mock(JwtDecoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        JwtAuthenticationProvider delegate = new JwtAuthenticationProvider(jwtDecoder);
+        delegate.setJwtAuthenticationConverter(new JwtConverter(converterProperties));
+        provider = new CachingJwtAuthenticationProvider(delegate, cacheProperties, meterRegistry);
+    }
+
+    @Test
+    void testRepeatedTokenIsDecodedOnce() {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("token-a", "alice", Instant.now().plusSeconds(60)));
+
+        Authentication first = provider.authenticate(bearer("token-a", "first"));
+        Authentication second = provider.authenticate(bearer("token-a", "second"));
+
+        verify(jwtDecoder, times(1)).decode("token-a");
+        assertNotSame(first, second);
+        assertEquals("alice", second.getName());
+        assertEquals(Set.of("ROLE_ADMIN", "SCOPE_cars"), authorities(second));
+        assertEquals("second", second.getDetails());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", CachingJwtAuthenticationProvider.CACHE_NAME)
+            .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void testDistinctTokensAreCachedSeparately() {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("token-a", "alice", Instant.now().plusSeconds(60)));
+        when(jwtDecoder.decode("token-b")).thenReturn(jwt("token-b", "bob", Instant.now().plusSeconds(60)));
+
+        provider.authenticate(bearer("token-a", null));
+        Authentication bob = provider.authenticate(bearer("token-b", null));
+        provider.authenticate(bearer("token-b", null));
+
+        assertEquals("bob", bob.getName());
+        assertEquals(2, provider.size());
+        verify(jwtDecoder, times(1)).decode("token-b");
+    }
+
+    @Test
+    void testExpiredTokenIsNotServedFromCache() {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("token-a", "alice", Instant.now().minusSeconds(1)));
+
+        provider.authenticate(bearer("token-a", null));
+        provider.authenticate(bearer("token-a", null));
+
+        verify(jwtDecoder, times(2)).decode("token-a");
+    }
+
+    @Test
+    void testRejectedTokenIsNotCached() {
+        when(jwtDecoder.decode("forged")).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThrows(Exception.class, () -> provider.authenticate(bearer("forged", null)));
+        assertThrows(Exception.class, () -> provider.authenticate(bearer("forged", null)));
+
+        verify(jwtDecoder, times(2)).decode("forged");
+        assertEquals(0, provider.size());
+    }
+
+    private static Jwt jwt(String token, String username, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject(username)
+            .claim("principal_username", username)
+            .claim("scope", "cars")
+            .claim("resource_access", Map.of("car-client", Map.of("roles", List.of("ADMIN"))))
+            .issuedAt(expiresAt.minusSeconds(300))
+            .expiresAt(expiresAt)
+            .build();
+    }
+
+    private static BearerTokenAuthenticationToken bearer(String token, Object details) {
+        BearerTokenAuthenticationToken bearer = new BearerTokenAuthenticationToken(token);
+        bearer.setDetails(details);
+        return bearer;
+    }
+
+    private static Set<String> authorities(Authentication authentication) {
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
+    }
+}
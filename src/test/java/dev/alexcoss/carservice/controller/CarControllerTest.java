@@ -1,10 +1,30 @@
 package dev.alexcoss.carservice.controller;
 
+import dev.alexcoss.carservice.config.security.JwtConverterProperties;
 import dev.alexcoss.carservice.controller.linkhelper.CarsLinkHelper;
+import dev.alexcoss.carservice.dto.BatchItemResultDTO;
+import dev.alexcoss.carservice.dto.BatchResultDTO;
 import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarFacetsDTO;
 import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.CursorPageDTO;
+import dev.alexcoss.carservice.dto.FacetCountDTO;
 import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.dto.CarSummaryDTO;
+import dev.alexcoss.carservice.service.CarBatchService;
+import dev.alexcoss.carservice.service.CarExportService;
+import dev.alexcoss.carservice.service.CarExportService.ExportTarget;
+import dev.alexcoss.carservice.service.CarFacetService;
 import dev.alexcoss.carservice.service.CarService;
+import dev.alexcoss.carservice.service.batch.BatchItemStatus;
+import dev.alexcoss.carservice.service.export.ExportFormat;
+import dev.alexcoss.carservice.util.VersionedId;
+import dev.alexcoss.carservice.util.exception.ExportFailedException;
+import dev.alexcoss.carservice.util.exception.ExportRejectedException;
+import dev.alexcoss.carservice.util.exception.IllegalBatchException;
+import dev.alexcoss.carservice.util.exception.IllegalSortException;
+import dev.alexcoss.carservice.util.exception.InvalidCursorException;
+import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
@@ -12,19 +32,33 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.hateoas.Link;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.io.OutputStream;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -32,6 +66,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(CarController.class)
+@Import(JwtConverterProperties.class)
 @AutoConfigureMockMvc
 class CarControllerTest {
 
@@ -41,6 +76,15 @@ class CarControllerTest {
     @MockBean
     private CarService carService;
 
+    @MockBean
+    private CarExportService carExportService;
+
+    @MockBean
+    private CarBatchService carBatchService;
+
+    @MockBean
+    private CarFacetService carFacetService;
+
     @MockBean
     private CarsLinkHelper linkHelper;
 
@@ -90,8 +134,10 @@ class CarControllerTest {
     @Test
     @WithMockUser
     void testListCars() throws Exception {
+        Page<VersionedId> ids = new PageImpl<>(List.of(new VersionedId(1L, "\"0.0.0\"")));
         Page<CarDTO> page = new PageImpl<>(Collections.singletonList(carDTO));
-        when(carService.getListCarsWithPagination(any())).thenReturn(page);
+        when(carService.getCarVersions(any())).thenReturn(ids);
+        when(carService.getCars(ids)).thenReturn(page);
         when(linkHelper.createSelfLink(anyLong())).thenReturn(Link.of("selfLink"));
         when(linkHelper.createCarsLink(any())).thenReturn(Link.of("carsLink"));
 
@@ -131,10 +177,300 @@ class CarControllerTest {
             .andExpect(jsonPath("$.categories").isEmpty());
     }
 
+    @Test
+    @WithMockUser
+    void testListCarsAfterCursor() throws Exception {
+        CursorPageDTO<VersionedId> ids = CursorPageDTO.<VersionedId>builder()
+            .content(List.of(new VersionedId(1L, "\"0.0.0\"")))
+            .size(1)
+            .hasNext(true)
+            .nextCursor("aWQ9MQ")
+            .build();
+        CursorPageDTO<CarDTO> page = CursorPageDTO.<CarDTO>builder()
+            .content(List.of(carDTO))
+            .size(1)
+            .hasNext(true)
+            .nextCursor("aWQ9MQ")
+            .build();
+        when(carService.getCarVersionsAfter(any(), eq("aWQ9MA"), eq(1), eq(Sort.by("year")))).thenReturn(ids);
+        when(carService.getCars(ids)).thenReturn(page);
+        when(linkHelper.createSelfLink(anyLong())).thenReturn(Link.of("selfLink"));
+        when(linkHelper.createNextLink(any(), eq("aWQ9MQ"), eq(1), any())).thenReturn(Link.of("nextLink", "next"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars")
+                .param("manufacturer", "Audi")
+                .param("after", "aWQ9MA")
+                .param("size", "1")
+                .param("sort", "year"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].objectId").value("testId"))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").value("aWQ9MQ"))
+            .andExpect(jsonPath("$._links.next.href").value("nextLink"));
+
+        verify(carService, never()).getCarVersions(any());
+    }
+
+    @Test
+    @WithMockUser
+    void testListCarsAfterInvalidCursor() throws Exception {
+        when(carService.getCarVersionsAfter(any(), any(), anyInt(), any())).thenThrow(new InvalidCursorException("Malformed cursor"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars").param("after", "garbage"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("BAD_REQUEST"));
+    }
+
+    @Test
+    @WithMockUser
+    void testSearchWithCursorIsRejected() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars").param("search", "merc").param("after", ""))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("BAD_REQUEST"));
+        verify(carService, never()).getCarVersionsAfter(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void testGetCarReturnsETag() throws Exception {
+        when(carService.getCarETag(1L)).thenReturn("\"3.1.0\"");
+        when(carService.getCarById(1L)).thenReturn(carDTO);
+        when(linkHelper.createSelfLink(anyLong())).thenReturn(Link.of("selfLink"));
+        when(linkHelper.createCarsLink()).thenReturn(Link.of("carsLink"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"3.1.0\""))
+            .andExpect(jsonPath("$.objectId").value("testId"))
+            .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    void testGetCarNotModified() throws Exception {
+        when(carService.getCarETag(1L)).thenReturn("\"3.1.0\"");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/1").header("If-None-Match", "\"3.1.0\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"3.1.0\""))
+            .andExpect(content().string(""));
+        verify(carService, never()).getCarById(anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    void testGetCarWhenNoConnectionIsAvailable() throws Exception {
+        when(carService.getCarETag(1L)).thenThrow(new CannotCreateTransactionException("Connection is not available, request timed out"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/1"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.errorCode").value("SERVICE_UNAVAILABLE"));
+    }
+
+    @Test
+    @WithMockUser
+    void testListCarsNotModified() throws Exception {
+        Page<VersionedId> ids = new PageImpl<>(List.of(new VersionedId(1L, "\"2.0.0\"")));
+        Page<VersionedId> changedIds = new PageImpl<>(List.of(new VersionedId(1L, "\"3.0.0\"")));
+        when(carService.getCarVersions(any())).thenReturn(ids, ids, changedIds);
+        when(carService.getCars(any(Page.class))).thenReturn(new PageImpl<>(Collections.singletonList(carDTO)));
+        when(linkHelper.createSelfLink(anyLong())).thenReturn(Link.of("selfLink"));
+        when(linkHelper.createCarsLink(any())).thenReturn(Link.of("carsLink"));
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars").header("If-None-Match", eTag))
+            .andExpect(status().isNotModified());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars").header("If-None-Match", eTag))
+            .andExpect(status().isOk());
+        verify(carService, times(2)).getCars(any(Page.class));
+        verify(linkHelper, times(2)).createCarsLink(any());
+    }
+
+    @Test
+    @WithMockUser
+    void testListCarSummaries() throws Exception {
+        CarSummaryDTO summary = new CarSummaryDTO(1L, "testId", "2020", "Q3", "Audi", List.of("SUV", "Sedan"));
+        when(carService.getCarSummaries(any())).thenReturn(new PageImpl<>(List.of(summary)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/summary")
+                .param("manufacturer", "Audi")
+                .param("sort", "year,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].objectId").value("testId"))
+            .andExpect(jsonPath("$.content[0].manufacturer").value("Audi"))
+            .andExpect(jsonPath("$.content[0].categories[1]").value("Sedan"))
+            .andExpect(jsonPath("$.content[0]._links").doesNotExist());
+        verify(linkHelper, never()).createSelfLink(anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    void testGetCarFacetsPassesFilter() throws Exception {
+        CarFacetsDTO facets = new CarFacetsDTO(2, List.of(new FacetCountDTO("Audi", 2)), List.of(new FacetCountDTO("Q3", 2)),
+            List.of(new FacetCountDTO("SUV", 2)), List.of(new FacetCountDTO("2020", 2)), Instant.EPOCH);
+        when(carFacetService.getFacets(argThat(filter -> "Audi".equals(filter.getManufacturer()) && filter.getMinYear() == 2019)))
+            .thenReturn(facets);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/facets")
+                .param("manufacturer", "Audi")
+                .param("minYear", "2019"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(2))
+            .andExpect(jsonPath("$.manufacturers[0].value").value("Audi"))
+            .andExpect(jsonPath("$.years[0].count").value(2));
+    }
+
+    @Test
+    @WithMockUser
+    void testSearchCarsPassesSearchAndFilter() throws Exception {
+        Page<VersionedId> ids = new PageImpl<>(List.of(new VersionedId(1L, "\"0.0.0\"")));
+        when(carService.getCarVersions(argThat(filter -> "merc".equals(filter.getSearch()) && filter.getMinYear() == 2019)))
+            .thenReturn(ids);
+        when(carService.getCars(ids)).thenReturn(new PageImpl<>(Collections.singletonList(carDTO)));
+        when(linkHelper.createSelfLink(anyLong())).thenReturn(Link.of("selfLink"));
+        when(linkHelper.createSearchLink(any())).thenReturn(Link.of("carsLink"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars")
+                .param("search", "merc")
+                .param("minYear", "2019"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].objectId").value(carDTO.getObjectId()));
+        verify(linkHelper, never()).createCarsLink(any());
+    }
+
+    @Test
+    @WithMockUser
+    void testListCarSummariesWithIllegalSort() throws Exception {
+        when(carService.getCarSummaries(any())).thenThrow(new IllegalSortException("Cannot sort cars by color"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/summary").param("sort", "color"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("BAD_REQUEST"));
+    }
+
+    @Test
+    @WithMockUser
+    void testExportCarsAsCsv() throws Exception {
+        when(carExportService.exportCars(any(), eq(ExportFormat.CSV), any(ExportTarget.class))).thenAnswer(invocation -> {
+            invocation.<ExportTarget>getArgument(2).open().write("objectId,Make,Year,Model,Category\n".getBytes());
+            return 0L;
+        });
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/export")
+                .param("format", "CSV")
+                .param("manufacturer", "Audi"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"cars.csv\""))
+            .andExpect(content().string("objectId,Make,Year,Model,Category\n"));
+        verify(carExportService).exportCars(argThat(filter -> "Audi".equals(filter.getManufacturer())), eq(ExportFormat.CSV), any(ExportTarget.class));
+    }
+
+    @Test
+    @WithMockUser
+    void testExportCarsRejectedWhenTooManyRunning() throws Exception {
+        when(carExportService.exportCars(any(), any(), any(ExportTarget.class))).thenThrow(new ExportRejectedException("Too many exports running, try again later"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/export"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(jsonPath("$.errorCode").value("TOO_MANY_REQUESTS"));
+    }
+
+    @Test
+    @WithMockUser
+    void testExportCarsFailingBeforeFirstByteReturnsError() throws Exception {
+        when(carExportService.exportCars(any(), any(), any(ExportTarget.class))).thenAnswer(invocation -> {
+            invocation.<ExportTarget>getArgument(2).open();
+            throw new ExportFailedException("Export stopped before all cars were written");
+        });
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/export"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.errorCode").value("SERVICE_UNAVAILABLE"));
+    }
+
+    @Test
+    @WithMockUser
+    void testExportCarsFailingAfterCommitIsNotCompletedNormally() throws Exception {
+        when(carExportService.exportCars(any(), any(), any(ExportTarget.class))).thenAnswer(invocation -> {
+            OutputStream outputStream = invocation.<ExportTarget>getArgument(2).open();
+            outputStream.write("{\"objectId\":\"car-1\"}\n".getBytes());
+            outputStream.flush();
+            throw new ExportFailedException("Export stopped before all cars were written");
+        });
+
+        ServletException thrown = assertThrows(ServletException.class, () ->
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/export")));
+
+        assertInstanceOf(ExportFailedException.class, thrown.getCause());
+    }
+
+    @Test
+    void testExportCarsRequiresAuthentication() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/export"))
+            .andExpect(status().isUnauthorized());
+        verify(carExportService, never()).exportCars(any(), any(), any(ExportTarget.class));
+    }
+
+    @Test
+    @WithMockUser
+    void testExportCarsDefaultsToNdjson() throws Exception {
+        when(carExportService.exportCars(any(), eq(ExportFormat.NDJSON), any(ExportTarget.class))).thenAnswer(invocation -> {
+            invocation.<ExportTarget>getArgument(2).open();
+            return 0L;
+        });
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/cars/export"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/x-ndjson"));
+        verify(carExportService).exportCars(any(), eq(ExportFormat.NDJSON), any(ExportTarget.class));
+    }
+
     @Test
     @WithMockUser
     void testDeleteCar() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.delete("/api/v1/cars/1").with(csrf()))
             .andExpect(status().isNoContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void testCreateCarsInBatchReturnsPerItemResults() throws Exception {
+        BatchResultDTO result = BatchResultDTO.builder()
+            .succeeded(1)
+            .failed(1)
+            .items(List.of(
+                BatchItemResultDTO.builder().index(0).id(7L).status(BatchItemStatus.CREATED).build(),
+                BatchItemResultDTO.builder().index(1).status(BatchItemStatus.INVALID).error("year: must match \"^\\d{4}$\"").build()))
+            .build();
+        when(carBatchService.createCars(argThat(cars -> cars.size() == 2))).thenReturn(result);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/cars/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"objectId\":\"a\",\"year\":\"2020\",\"carModel\":{\"id\":1}},{\"objectId\":\"b\",\"year\":\"20\",\"carModel\":{\"id\":1}}]")
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.succeeded").value(1))
+            .andExpect(jsonPath("$.items[0].id").value(7))
+            .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.items[1].status").value("INVALID"));
+    }
+
+    @Test
+    @WithMockUser
+    void testOversizedBatchIsRejected() throws Exception {
+        when(carBatchService.deleteCars(any())).thenThrow(new IllegalBatchException("Batch of 3 items exceeds the limit of 2"));
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/v1/cars/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1,2,3]")
+                .with(csrf()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorMessage").value("Batch of 3 items exceeds the limit of 2"));
+    }
+}
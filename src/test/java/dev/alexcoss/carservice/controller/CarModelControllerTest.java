@@ -1,9 +1,11 @@
 package dev.alexcoss.carservice.controller;
 
+import dev.alexcoss.carservice.config.security.JwtConverterProperties;
 import dev.alexcoss.carservice.controller.linkhelper.ModelLinkHelper;
 import dev.alexcoss.carservice.dto.CarModelDTO;
 import dev.alexcoss.carservice.dto.ProducerDTO;
 import dev.alexcoss.carservice.service.CarModelService;
+import dev.alexcoss.carservice.util.VersionedId;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -11,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,8 +25,11 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -31,6 +37,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(CarModelController.class)
+@Import(JwtConverterProperties.class)
 @AutoConfigureMockMvc
 class CarModelControllerTest {
 
@@ -94,9 +101,11 @@ class CarModelControllerTest {
         CarModelDTO carModelDTO = new CarModelDTO();
         carModelDTO.setId(1L);
         carModelDTO.setName("UpdatedModel");
+        Page<VersionedId> ids = new PageImpl<>(List.of(new VersionedId(1L, "\"0.0\"")));
         Page<CarModelDTO> page = new PageImpl<>(Collections.singletonList(carModelDTO));
 
-        when(carModelService.getListCarModels(anyString(), any(Pageable.class))).thenReturn(page);
+        when(carModelService.getCarModelVersions(anyString(), any(Pageable.class))).thenReturn(ids);
+        when(carModelService.getCarModels(ids)).thenReturn(page);
         when(linkHelper.createSelfLink(anyLong())).thenReturn(Link.of("selfLink"));
         when(linkHelper.createModelsLink(anyString(), any(Pageable.class))).thenReturn(Link.of("modelsLink"));
 
@@ -108,6 +117,37 @@ class CarModelControllerTest {
             .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    @WithMockUser
+    void testSearchCarModels() throws Exception {
+        CarModelDTO carModelDTO = new CarModelDTO();
+        carModelDTO.setId(1L);
+        carModelDTO.setName("C-Class");
+        Page<VersionedId> ids = new PageImpl<>(List.of(new VersionedId(1L, "\"0.0\"")));
+        Page<CarModelDTO> page = new PageImpl<>(Collections.singletonList(carModelDTO));
+
+        when(carModelService.searchCarModelVersions(eq("merc"), any(Pageable.class))).thenReturn(ids);
+        when(carModelService.getCarModels(ids)).thenReturn(page);
+        when(linkHelper.createSelfLink(anyLong())).thenReturn(Link.of("selfLink"));
+        when(linkHelper.createSearchLink(eq("merc"), any(Pageable.class))).thenReturn(Link.of("modelsLink"));
+
+        mockMvc.perform(get("/api/v1/models")
+                .param("search", "merc")
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].name").value("C-Class"));
+        verify(carModelService, never()).getCarModelVersions(any(), any(Pageable.class));
+    }
+
+    @Test
+    @WithMockUser
+    void testSearchWithCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/models").param("search", "merc").param("after", ""))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("BAD_REQUEST"));
+        verify(carModelService, never()).getCarModelVersionsAfter(any(), any(), anyInt(), any());
+    }
+
     @Test
     @WithMockUser
     void testDeleteCarModel() throws Exception {
@@ -116,4 +156,16 @@ class CarModelControllerTest {
         mockMvc.perform(delete("/api/v1/models/1").with(csrf()))
             .andExpect(status().isNoContent());
     }
+
+    @Test
+    @WithMockUser
+    void testGetCarModelNotModified() throws Exception {
+        when(carModelService.getCarModelETag(1L)).thenReturn("\"2.1\"");
+
+        mockMvc.perform(get("/api/v1/models/1").header("If-None-Match", "\"2.1\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"2.1\""))
+            .andExpect(content().string(""));
+        verify(carModelService, never()).getCarModelById(anyLong());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package dev.alexcoss.carservice.controller;
+
+import dev.alexcoss.carservice.config.security.JwtConverterProperties;
+import dev.alexcoss.carservice.dto.ImportJobDTO;
+import dev.alexcoss.carservice.service.ImportJobService;
+import dev.alexcoss.carservice.service.csv.ImportJobStatus;
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import dev.alexcoss.carservice.util.exception.IllegalImportPathException;
+import dev.alexcoss.carservice.util.exception.ImportJobRejectedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImportController.class)
+@Import(JwtConverterProperties.class)
+@AutoConfigureMockMvc
+class ImportControllerTest {
+
+    private static final UUID JOB_ID = UUID.fromString("5f0c6a8e-3b1d-4d8e-9a61-2f7d0c1b9e42");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportJobService importJobService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testUploadImport() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "cars.csv", "text/csv",
+            "objectId,Make,Year,Model,Category\nZRgPP9dBMm,Audi,2020,Q3,SUV\n".getBytes());
+        when(importJobService.submitUpload(any(), eq(ImportMode.SYNC), eq(true))).thenReturn(createJob(ImportJobStatus.QUEUED));
+
+        mockMvc.perform(multipart("/api/v1/imports").file(file).param("mode", "SYNC").param("deleteMissing", "true").with(csrf()))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "http://localhost/api/v1/imports/" + JOB_ID))
+            .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testPathImport() throws Exception {
+        when(importJobService.submitPath("nightly/cars.csv", null, null)).thenReturn(createJob(ImportJobStatus.QUEUED));
+
+        mockMvc.perform(post("/api/v1/imports")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"path\": \"nightly/cars.csv\"}")
+                .with(csrf()))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.id").value(JOB_ID.toString()));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testPathImportOutsideImportDirectory() throws Exception {
+        when(importJobService.submitPath(anyString(), any(), any()))
+            .thenThrow(new IllegalImportPathException("Import path must be inside the import directory"));
+
+        mockMvc.perform(post("/api/v1/imports")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"path\": \"../../etc/passwd\"}")
+                .with(csrf()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("BAD_REQUEST"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testPathImportWithFullQueue() throws Exception {
+        when(importJobService.submitPath(anyString(), any(), any()))
+            .thenThrow(new ImportJobRejectedException("Too many import jobs, try again later"));
+
+        mockMvc.perform(post("/api/v1/imports")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"path\": \"cars.csv\"}")
+                .with(csrf()))
+            .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetImport() throws Exception {
+        when(importJobService.getJob(JOB_ID)).thenReturn(createJob(ImportJobStatus.RUNNING));
+
+        mockMvc.perform(get("/api/v1/imports/" + JOB_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("RUNNING"))
+            .andExpect(jsonPath("$.rowsDone").value(500))
+            .andExpect(jsonPath("$.totalRows").value(1000))
+            .andExpect(jsonPath("$.etaSeconds").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testCancelImport() throws Exception {
+        when(importJobService.cancelJob(JOB_ID)).thenReturn(createJob(ImportJobStatus.CANCELLED));
+
+        mockMvc.perform(delete("/api/v1/imports/" + JOB_ID).with(csrf()))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
+    private ImportJobDTO createJob(ImportJobStatus status) {
+        return ImportJobDTO.builder()
+            .id(JOB_ID)
+            .status(status)
+            .fileName("cars.csv")
+            .mode(ImportMode.SYNC)
+            .rowsDone(500)
+            .totalRows(1000L)
+            .rowsPerSecond(250)
+            .etaSeconds(2L)
+            .build();
+    }
+}
@@ -1,8 +1,10 @@
 package dev.alexcoss.carservice.controller;
 
+import dev.alexcoss.carservice.config.security.JwtConverterProperties;
 import dev.alexcoss.carservice.controller.linkhelper.ManufacturerLinkHelper;
 import dev.alexcoss.carservice.dto.ProducerDTO;
 import dev.alexcoss.carservice.service.ProducerService;
+import dev.alexcoss.carservice.util.VersionedId;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -10,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -20,9 +23,14 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -30,6 +38,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(ManufacturerController.class)
+@Import(JwtConverterProperties.class)
 @AutoConfigureMockMvc
 class ManufacturerControllerTest {
 
@@ -82,15 +91,29 @@ class ManufacturerControllerTest {
             .andExpect(jsonPath("$.name").value("UpdatedProducer"));
     }
 
+    @Test
+    @WithMockUser
+    void testGetProducerNotModified() throws Exception {
+        when(producerService.getProducerETag(1L)).thenReturn("\"4\"");
+
+        mockMvc.perform(get("/api/v1/manufacturers/1").header("If-None-Match", "\"4\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"4\""))
+            .andExpect(content().string(""));
+        verify(producerService, never()).getProducerById(anyLong());
+    }
+
     @Test
     @WithMockUser
     void testListOfProducers() throws Exception {
         ProducerDTO producerDTO = new ProducerDTO();
         producerDTO.setId(1L);
         producerDTO.setName("UpdatedProducer");
+        Page<VersionedId> ids = new PageImpl<>(List.of(new VersionedId(1L, "\"0\"")));
         Page<ProducerDTO> page = new PageImpl<>(Collections.singletonList(producerDTO));
 
-        when(producerService.getListOfProducers(any(Pageable.class))).thenReturn(page);
+        when(producerService.getProducerVersions(any(Pageable.class))).thenReturn(ids);
+        when(producerService.getProducers(ids)).thenReturn(page);
         when(linkHelper.createSelfLink(anyLong())).thenReturn(Link.of("selfLink"));
         when(linkHelper.createManufacturersLink(any(Pageable.class))).thenReturn(Link.of("manufacturersLink"));
 
@@ -102,6 +125,37 @@ class ManufacturerControllerTest {
             .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    @WithMockUser
+    void testSearchProducers() throws Exception {
+        ProducerDTO producerDTO = new ProducerDTO();
+        producerDTO.setId(1L);
+        producerDTO.setName("Mercedes-Benz");
+        Page<VersionedId> ids = new PageImpl<>(List.of(new VersionedId(1L, "\"0\"")));
+        Page<ProducerDTO> page = new PageImpl<>(Collections.singletonList(producerDTO));
+
+        when(producerService.searchProducerVersions(eq("merc"), any(Pageable.class))).thenReturn(ids);
+        when(producerService.getProducers(ids)).thenReturn(page);
+        when(linkHelper.createSelfLink(anyLong())).thenReturn(Link.of("selfLink"));
+        when(linkHelper.createSearchLink(eq("merc"), any(Pageable.class))).thenReturn(Link.of("manufacturersLink"));
+
+        mockMvc.perform(get("/api/v1/manufacturers")
+                .param("search", "merc")
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].name").value("Mercedes-Benz"));
+        verify(producerService, never()).getProducerVersions(any(Pageable.class));
+    }
+
+    @Test
+    @WithMockUser
+    void testSearchWithCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/manufacturers").param("search", "merc").param("after", ""))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("BAD_REQUEST"));
+        verify(producerService, never()).getProducerVersionsAfter(any(), anyInt(), any());
+    }
+
     @Test
     @WithMockUser
     void testDeleteProducer() throws Exception {
@@ -0,0 +1,48 @@
+package dev.alexcoss.carservice.controller;
+
+import dev.alexcoss.carservice.config.security.JwtConverterProperties;
+import dev.alexcoss.carservice.dto.TypeaheadDTO;
+import dev.alexcoss.carservice.dto.TypeaheadSuggestionDTO;
+import dev.alexcoss.carservice.service.TypeaheadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TypeaheadController.class)
+@Import(JwtConverterProperties.class)
+@AutoConfigureMockMvc
+class TypeaheadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TypeaheadService typeaheadService;
+
+    @Test
+    @WithMockUser
+    void testSuggest() throws Exception {
+        when(typeaheadService.suggest("merc", 5)).thenReturn(new TypeaheadDTO(
+            List.of(new TypeaheadSuggestionDTO(1L, "Mercedes-Benz", null)),
+            List.of(new TypeaheadSuggestionDTO(2L, "C-Class", "Mercedes-Benz"))));
+
+        mockMvc.perform(get("/api/v1/typeahead")
+                .param("prefix", "merc")
+                .param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.manufacturers[0].name").value("Mercedes-Benz"))
+            .andExpect(jsonPath("$.models[0].manufacturer").value("Mercedes-Benz"));
+    }
+}
@@ -0,0 +1,55 @@
+package dev.alexcoss.carservice.controller.linkhelper;
+
+import dev.alexcoss.carservice.controller.CarController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class CarsLinkHelperTest {
+
+    private final CarsLinkHelper linkHelper = new CarsLinkHelper();
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/v1/cars");
+        request.setServerName("cars.example.com");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testSelfLinkMatchesMethodLink() {
+        Link link = linkHelper.createSelfLink(42L);
+
+        assertEquals(linkTo(methodOn(CarController.class).getCar(42L, null)).withSelfRel().getHref(), link.getHref());
+        assertEquals(IanaLinkRelations.SELF, link.getRel());
+    }
+
+    @Test
+    void testBaseUriResolvedOncePerRequest() {
+        assertEquals("http://cars.example.com/api/v1/cars/1", linkHelper.createSelfLink(1L).getHref());
+
+        request.setServerName("other.example.com");
+        assertEquals("http://cars.example.com/api/v1/cars/2", linkHelper.createSelfLink(2L).getHref());
+
+        MockHttpServletRequest nextRequest = new MockHttpServletRequest("GET", "/api/v1/cars");
+        nextRequest.setServerName("other.example.com");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(nextRequest));
+        assertEquals("http://other.example.com/api/v1/cars/3", linkHelper.createSelfLink(3L).getHref());
+    }
+}
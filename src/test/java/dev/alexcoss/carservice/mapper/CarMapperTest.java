@@ -0,0 +1,122 @@
+package dev.alexcoss.carservice.mapper;
+
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.CategoryDTO;
+import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.util.exception.IllegalReferenceException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CarMapperTest {
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final CarMapper carMapper = new CarMapper(new CarModelMapper(new ProducerMapper(), entityManager), new CategoryMapper(), entityManager);
+
+    @Test
+    void testToDTOMatchesModelMapper() {
+        Producer producer = Producer.builder().id(3L).name("Audi").build();
+        CarModel carModel = CarModel.builder().id(2L).name("Q3").producer(producer).build();
+        Car car = Car.builder()
+            .id(1L)
+            .objectId("ZRgPP9dBMm")
+            .year("2020")
+            .carModel(carModel)
+            .categories(Set.of(Category.builder().id(4L).name("SUV").build(), Category.builder().id(5L).name("Sedan").build()))
+            .build();
+
+        assertEquals(new ModelMapper().map(car, CarDTO.class), carMapper.toDTO(car));
+    }
+
+    @Test
+    void testToEntityMapsWholeGraph() {
+        CarDTO carDTO = CarDTO.builder()
+            .objectId("ZRgPP9dBMm")
+            .year("2020")
+            .carModel(CarModelDTO.builder().id(2L).name("Q3").producer(ProducerDTO.builder().id(3L).name("Audi").build()).build())
+            .categories(Set.of(CategoryDTO.builder().id(4L).name("SUV").build()))
+            .build();
+
+        Car car = carMapper.toEntity(carDTO);
+
+        assertNull(car.getId());
+        assertEquals("2020", car.getYear());
+        assertEquals("Audi", car.getCarModel().getProducer().getName());
+        assertEquals(Set.of(Category.builder().id(4L).name("SUV").build()), car.getCategories());
+    }
+
+    @Test
+    void testToDTOHandlesMissingModel() {
+        CarDTO carDTO = carMapper.toDTO(Car.builder().id(1L).year("2020").build());
+
+        assertNull(carDTO.getCarModel());
+        assertTrue(carDTO.getCategories().isEmpty());
+    }
+
+    @Test
+    void testMergeSkipsNullFields() {
+        CarModel carModel = CarModel.builder().id(2L).name("Q3").build();
+        Set<Category> categories = Set.of(Category.builder().id(4L).name("SUV").build());
+        Car car = Car.builder().id(1L).objectId("ZRgPP9dBMm").year("2020").carModel(carModel).categories(categories).build();
+
+        carMapper.merge(CarDTO.builder().year("2021").categories(null).build(), car);
+
+        assertEquals(1L, car.getId());
+        assertEquals("ZRgPP9dBMm", car.getObjectId());
+        assertEquals("2021", car.getYear());
+        assertSame(carModel, car.getCarModel());
+        assertSame(categories, car.getCategories());
+    }
+
+    @Test
+    void testMergeReplacesModelReferenceWithoutRenamingIt() {
+        CarModel carModel = CarModel.builder().id(2L).name("Q3").build();
+        CarModel storedModel = CarModel.builder().id(7L).name("A6").build();
+        Car car = Car.builder().id(1L).year("2020").carModel(carModel).build();
+        when(entityManager.getReference(CarModel.class, 7L)).thenReturn(storedModel);
+
+        carMapper.merge(CarDTO.builder().carModel(CarModelDTO.builder().id(7L).name("A4").build()).build(), car);
+
+        assertSame(storedModel, car.getCarModel());
+        assertEquals("A6", car.getCarModel().getName());
+        assertEquals("Q3", carModel.getName());
+    }
+
+    @Test
+    void testMergeResolvesCategoriesByReference() {
+        Category storedCategory = Category.builder().id(4L).name("SUV").build();
+        Car car = Car.builder().id(1L).year("2020").build();
+        when(entityManager.getReference(Category.class, 4L)).thenReturn(storedCategory);
+
+        carMapper.merge(CarDTO.builder().categories(Set.of(CategoryDTO.builder().id(4L).name("Truck").build())).build(), car);
+
+        assertEquals(Set.of(storedCategory), car.getCategories());
+        assertSame(storedCategory, car.getCategories().iterator().next());
+    }
+
+    @Test
+    void testMergeRejectsReferencesWithoutId() {
+        Car car = Car.builder().id(1L).year("2020").build();
+
+        assertThrows(IllegalReferenceException.class,
+            () -> carMapper.merge(CarDTO.builder().carModel(CarModelDTO.builder().name("A4").build()).build(), car));
+        assertThrows(IllegalReferenceException.class,
+            () -> carMapper.merge(CarDTO.builder().categories(Set.of(CategoryDTO.builder().name("SUV").build())).build(), car));
+        assertNull(car.getCarModel());
+    }
+}
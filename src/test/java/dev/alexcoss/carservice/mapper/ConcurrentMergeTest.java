@@ -0,0 +1,76 @@
+package dev.alexcoss.carservice.mapper;
+
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Producer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ConcurrentMergeTest {
+
+    private static final int THREADS = 64;
+    private static final int MERGES_PER_THREAD = 2_000;
+
+    private final ProducerMapper producerMapper = new ProducerMapper();
+    private final CarModelMapper carModelMapper = new CarModelMapper(producerMapper, mock(EntityManager.class));
+    private final CarMapper carMapper = new CarMapper(carModelMapper, new CategoryMapper(), mock(EntityManager.class));
+
+    @Test
+    void testConcurrentPartialMergesDoNotInterfere() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int correct = 0;
+                    for (int i = 0; i < MERGES_PER_THREAD; i++) {
+                        correct += mergeAndCheck(thread, i) ? 1 : 0;
+                    }
+                    return correct;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(MERGES_PER_THREAD, result.get());
+            }
+        }
+    }
+
+    private boolean mergeAndCheck(int thread, int i) {
+        String name = thread + "-" + i;
+        boolean partial = (thread + i) % 2 == 0;
+
+        Producer producer = Producer.builder().id(1L).name("producer").build();
+        producerMapper.merge(ProducerDTO.builder().name(partial ? null : name).build(), producer);
+
+        CarModel carModel = CarModel.builder().id(1L).name("model").producer(producer).build();
+        carModelMapper.merge(CarModelDTO.builder().name(partial ? name : null).build(), carModel);
+
+        Car car = Car.builder().id(1L).objectId("car").year("2000").carModel(carModel).build();
+        carMapper.merge(CarDTO.builder().objectId(partial ? null : name).year(partial ? "2001" : null).build(), car);
+
+        return producer.getName().equals(partial ? "producer" : name)
+            && carModel.getName().equals(partial ? name : "model")
+            && carModel.getProducer() == producer
+            && car.getObjectId().equals(partial ? "car" : name)
+            && car.getYear().equals(partial ? "2001" : "2000")
+            && car.getCarModel() == carModel;
+    }
+}
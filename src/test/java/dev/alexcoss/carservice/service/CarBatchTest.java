@@ -0,0 +1,173 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.config.CarBatchProperties;
+import dev.alexcoss.carservice.dto.BatchItemResultDTO;
+import dev.alexcoss.carservice.dto.BatchResultDTO;
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.CategoryDTO;
+import dev.alexcoss.carservice.mapper.CarMapper;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.CategoryMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarJdbcRepository;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarRepository;
+import dev.alexcoss.carservice.repository.CategoryRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.service.batch.BatchItemStatus;
+import dev.alexcoss.carservice.util.exception.IllegalBatchException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = {"car.batch.chunk-size=2", "car.batch.max-items=10"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({CarBatchService.class, CarJdbcRepository.class, CarBatchProperties.class, CarMapper.class, CarModelMapper.class,
+    ProducerMapper.class, CategoryMapper.class})
+class CarBatchTest extends PostgresContainerTest {
+
+    @Autowired
+    private CarBatchService carBatchService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CarModel carModel;
+
+    private Category category;
+
+    private Car car;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+
+        Producer producer = producerRepository.save(Producer.builder().name("Audi").build());
+        carModel = carModelRepository.save(CarModel.builder().name("Q3").producer(producer).build());
+        category = categoryRepository.save(Category.builder().name("SUV").build());
+        car = carRepository.save(Car.builder().objectId("A1").year("2020").carModel(carModel).categories(new HashSet<>(Set.of(category))).build());
+    }
+
+    @Test
+    void testCreateReportsEveryItemAndSkipsInvalidOnes() {
+        List<CarDTO> carDTOs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            carDTOs.add(newCar("B" + i, carModel.getId()));
+        }
+        carDTOs.add(newCar("A1", carModel.getId()));
+        carDTOs.add(newCar("C1", -1L));
+        carDTOs.add(CarDTO.builder().objectId("C2").year("20").carModel(modelRef(carModel.getId())).build());
+        carDTOs.add(null);
+
+        BatchResultDTO result = carBatchService.createCars(carDTOs);
+
+        assertEquals(5, result.getSucceeded());
+        assertEquals(4, result.getFailed());
+        assertEquals(List.of(BatchItemStatus.CREATED, BatchItemStatus.CREATED, BatchItemStatus.CREATED, BatchItemStatus.CREATED,
+            BatchItemStatus.CREATED, BatchItemStatus.INVALID, BatchItemStatus.INVALID, BatchItemStatus.INVALID,
+            BatchItemStatus.INVALID), statuses(result));
+        result.getItems().subList(0, 5).forEach(item -> assertNotNull(item.getId()));
+        assertEquals(6, carRepository.count());
+        assertEquals(6, jdbcTemplate.queryForObject("SELECT count(*) FROM car.car_category", Integer.class));
+    }
+
+    @Test
+    void testUpdateAppliesChangesAndReportsMissingCars() {
+        List<CarDTO> carDTOs = Arrays.asList(
+            CarDTO.builder().id(car.getId()).year("2021").carModel(modelRef(carModel.getId())).build(),
+            CarDTO.builder().id(-1L).year("2021").carModel(modelRef(carModel.getId())).build(),
+            CarDTO.builder().year("2021").carModel(modelRef(carModel.getId())).build());
+
+        BatchResultDTO result = carBatchService.updateCars(carDTOs);
+
+        assertEquals(List.of(BatchItemStatus.UPDATED, BatchItemStatus.NOT_FOUND, BatchItemStatus.INVALID), statuses(result));
+        assertEquals("2021", jdbcTemplate.queryForObject("SELECT year FROM car.car WHERE id = ?", String.class, car.getId()));
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT version FROM car.car WHERE id = ?", Long.class, car.getId()));
+    }
+
+    @Test
+    void testUpdateRejectsModelWithoutId() {
+        BatchResultDTO result = carBatchService.updateCars(List.of(
+            CarDTO.builder().id(car.getId()).carModel(CarModelDTO.builder().name("Q5").build()).build()));
+
+        assertEquals(List.of(BatchItemStatus.INVALID), statuses(result));
+        assertEquals(carModel.getId(), jdbcTemplate.queryForObject("SELECT model_id FROM car.car WHERE id = ?", Long.class, car.getId()));
+        assertEquals(1, carModelRepository.count());
+    }
+
+    @Test
+    void testDeleteIsSetBasedAndReportsMissingCars() {
+        Car second = carRepository.save(Car.builder().objectId("A2").year("2020").carModel(carModel).build());
+
+        BatchResultDTO result = carBatchService.deleteCars(Arrays.asList(car.getId(), -1L, second.getId(), car.getId(), null));
+
+        assertEquals(List.of(BatchItemStatus.DELETED, BatchItemStatus.NOT_FOUND, BatchItemStatus.DELETED,
+            BatchItemStatus.INVALID, BatchItemStatus.INVALID), statuses(result));
+        assertEquals(0, carRepository.count());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM car.car_category", Integer.class));
+    }
+
+    @Test
+    void testBatchOverLimitIsRejected() {
+        List<Long> ids = LongStream.rangeClosed(1, 11).boxed().toList();
+
+        assertThrows(IllegalBatchException.class, () -> carBatchService.deleteCars(ids));
+        assertThrows(IllegalBatchException.class, () -> carBatchService.createCars(List.of()));
+    }
+
+    private CarDTO newCar(String objectId, Long modelId) {
+        return CarDTO.builder()
+            .objectId(objectId)
+            .year("2022")
+            .carModel(modelRef(modelId))
+            .categories(Set.of(CategoryDTO.builder().id(category.getId()).build()))
+            .build();
+    }
+
+    private static CarModelDTO modelRef(Long id) {
+        return CarModelDTO.builder().id(id).build();
+    }
+
+    private static List<BatchItemStatus> statuses(BatchResultDTO result) {
+        return result.getItems().stream().map(BatchItemResultDTO::getStatus).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CategoryRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.service.csv.CarDictionary;
+import dev.alexcoss.carservice.service.typeahead.ProducerSavedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CarDictionaryServiceTest {
+
+    @Mock
+    private ProducerRepository producerRepository;
+
+    @Mock
+    private CarModelRepository carModelRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CarDictionaryService carDictionaryService;
+
+    @Test
+    void testLoadOrCreateSavesOnlyMissingEntries() {
+        Producer audi = Producer.builder().id(1L).name("Audi").build();
+        CarModel q3 = CarModel.builder().id(1L).name("Q3").producer(audi).build();
+        Category suv = Category.builder().id(1L).name("SUV").build();
+
+        when(producerRepository.findByNameIn(anyCollection())).thenReturn(List.of(audi));
+        when(carModelRepository.findByProducerNameIn(anyCollection())).thenReturn(List.of(q3));
+        when(categoryRepository.findByNameIn(anyCollection())).thenReturn(List.of(suv));
+        when(producerRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(carModelRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(categoryRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CarDictionary dictionary = carDictionaryService.loadOrCreate(
+            Map.of("Audi", Set.of("Q3", "A4"), "Tesla", Set.of("Model 3")), Set.of("SUV", "Sedan"));
+
+        assertSame(q3, dictionary.getModel("Audi", "Q3"));
+        assertEquals("A4", dictionary.getModel("Audi", "A4").getName());
+        assertEquals("Tesla", dictionary.getModel("Tesla", "Model 3").getProducer().getName());
+        assertEquals(Set.of(suv), dictionary.getCategories("SUV"));
+        assertEquals(2, dictionary.getCategories("SUV, Sedan").size());
+
+        ArgumentCaptor<List<Producer>> producers = ArgumentCaptor.captor();
+        verify(producerRepository).saveAll(producers.capture());
+        assertEquals(List.of("Tesla"), producers.getValue().stream().map(Producer::getName).toList());
+
+        ArgumentCaptor<List<CarModel>> models = ArgumentCaptor.captor();
+        verify(carModelRepository).saveAll(models.capture());
+        assertEquals(Set.of("A4", "Model 3"), models.getValue().stream().map(CarModel::getName).collect(Collectors.toSet()));
+
+        ArgumentCaptor<List<Category>> categories = ArgumentCaptor.captor();
+        verify(categoryRepository).saveAll(categories.capture());
+        assertEquals(List.of("Sedan"), categories.getValue().stream().map(Category::getName).toList());
+        verify(eventPublisher).publishEvent(new ProducerSavedEvent(null, "Tesla"));
+    }
+}
@@ -0,0 +1,226 @@
+package dev.alexcoss.carservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.config.CarExportProperties;
+import dev.alexcoss.carservice.config.CsvImportProperties;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.dto.CarSummaryDTO;
+import dev.alexcoss.carservice.dto.ErrorResponse;
+import dev.alexcoss.carservice.dto.ImportReportDTO;
+import dev.alexcoss.carservice.repository.CarJdbcRepository;
+import dev.alexcoss.carservice.repository.CarSummaryRepository;
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import dev.alexcoss.carservice.service.export.ExportFormat;
+import dev.alexcoss.carservice.util.exception.ExportFailedException;
+import dev.alexcoss.carservice.util.exception.ExportRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true", "car.export.max-concurrent=1"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({CarExportService.class, CarExportProperties.class, CarSummaryRepository.class, CsvCarService.class, CarDictionaryService.class,
+    CarJdbcRepository.class, CsvImportProperties.class, SimpleMeterRegistry.class})
+class CarExportTest extends PostgresContainerTest {
+
+    private static final int SEEDED_CARS = 2500;
+
+    @Autowired
+    private CarExportService carExportService;
+
+    @Autowired
+    private CsvCarService csvCarService;
+
+    @Autowired
+    private CarExportProperties carExportProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @TempDir
+    private Path tempDir;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() throws IOException {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+
+        StringBuilder feed = new StringBuilder("objectId,Make,Year,Model,Category\n");
+        for (int i = 0; i < SEEDED_CARS; i++) {
+            feed.append("car-").append(i).append(",Producer ").append(i % 7).append(',').append(2000 + i % 20)
+                .append(",\"Model, ").append(i % 11).append("\",").append(i % 2 == 0 ? "SUV" : "\"Sedan, Wagon\"").append('\n');
+        }
+        Path file = Files.writeString(tempDir.resolve("cars.csv"), feed);
+        csvCarService.parseAndSaveCars(file.toString(), ImportMode.SYNC);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        carExportProperties.setIdleTimeout(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testNdjsonExportStreamsEveryMatchingCar() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = carExportService.exportCars(CarFilterDTO.builder().category("Wagon").build(), ExportFormat.NDJSON, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(SEEDED_CARS / 2, exported);
+        assertEquals(SEEDED_CARS / 2, lines.size());
+        CarSummaryDTO first = objectMapper.readValue(lines.get(0), CarSummaryDTO.class);
+        assertEquals(List.of("Sedan", "Wagon"), first.categories());
+        assertTrue(first.model().startsWith("Model, "));
+        assertTrue(output.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testCsvExportRoundTripsThroughSyncImport() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = carExportService.exportCars(CarFilterDTO.builder().build(), ExportFormat.CSV, output);
+        Path file = Files.write(tempDir.resolve("export.csv"), output.toByteArray());
+        ImportReportDTO report = csvCarService.parseAndSaveCars(file.toString(), ImportMode.SYNC);
+
+        assertEquals(SEEDED_CARS, exported);
+        assertEquals(new ImportReportDTO(0, 0, SEEDED_CARS, 0), report);
+    }
+
+    @Test
+    void testExportIsRejectedWhileAllPermitsAreTaken() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream blockingOutput = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> running = executor.submit(() ->
+                carExportService.exportCars(CarFilterDTO.builder().build(), ExportFormat.CSV, blockingOutput));
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+            assertThrows(ExportRejectedException.class, () ->
+                carExportService.exportCars(CarFilterDTO.builder().build(), ExportFormat.NDJSON, new ByteArrayOutputStream()));
+
+            release.countDown();
+            assertEquals(SEEDED_CARS, running.get(10, TimeUnit.SECONDS));
+            assertEquals(SEEDED_CARS, carExportService.exportCars(CarFilterDTO.builder().build(), ExportFormat.NDJSON, new ByteArrayOutputStream()));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testIdleTimeoutDoesNotLimitTotalExportTime() {
+        carExportProperties.setIdleTimeout(Duration.ofMillis(500));
+        OutputStream slowOutput = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+            }
+        };
+
+        long startTime = System.nanoTime();
+        long exported = assertDoesNotThrow(() -> carExportService.exportCars(CarFilterDTO.builder().build(), ExportFormat.NDJSON, slowOutput));
+
+        assertEquals(SEEDED_CARS, exported);
+        assertTrue(Duration.ofNanos(System.nanoTime() - startTime).compareTo(Duration.ofMillis(500)) > 0);
+    }
+
+    @Test
+    void testStalledStatementEndsNdjsonWithErrorRecord() throws Exception {
+        carExportProperties.setIdleTimeout(Duration.ofMillis(200));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.createStatement().execute("LOCK TABLE car.car IN ACCESS EXCLUSIVE MODE");
+            try {
+                assertThrows(ExportFailedException.class, () ->
+                    carExportService.exportCars(CarFilterDTO.builder().build(), ExportFormat.NDJSON, output));
+            } finally {
+                connection.rollback();
+            }
+        }
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(1, lines.size());
+        assertEquals("EXPORT_FAILED", objectMapper.readValue(lines.get(0), ErrorResponse.class).getErrorCode());
+        assertEquals(SEEDED_CARS, carExportService.exportCars(CarFilterDTO.builder().build(), ExportFormat.NDJSON, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void testExportOfEmptySelection() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = carExportService.exportCars(CarFilterDTO.builder().manufacturer("Nobody").build(), ExportFormat.NDJSON, output);
+
+        assertEquals(0, exported);
+        assertEquals(0, output.size());
+    }
+}
@@ -0,0 +1,218 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.config.CarFacetProperties;
+import dev.alexcoss.carservice.dto.CarFacetsDTO;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.dto.FacetCountDTO;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarFacetRepository;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarSummaryRepository;
+import dev.alexcoss.carservice.repository.CategoryRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.service.facet.CarFacetIndex;
+import dev.alexcoss.carservice.service.facet.CarsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "car.facets.warm-up=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CarFacetService.class, CarFacetRepository.class, CarFacetProperties.class, CarSummaryRepository.class})
+class CarFacetTest extends PostgresContainerTest {
+
+    private static final int SEEDED_CARS = 300;
+
+    @Autowired
+    private CarFacetService carFacetService;
+
+    @Autowired
+    private CarFacetRepository carFacetRepository;
+
+    @Autowired
+    private CarSummaryRepository carSummaryRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+
+        for (String name : List.of("Audi", "BMW", "Tesla")) {
+            Producer producer = producerRepository.save(Producer.builder().name(name).build());
+            for (String model : List.of("S", "X", name + " Special")) {
+                carModelRepository.save(CarModel.builder().name(model).producer(producer).build());
+            }
+        }
+        for (String name : List.of("SUV", "Sedan", "Coupe")) {
+            categoryRepository.save(Category.builder().name(name).build());
+        }
+
+        jdbcTemplate.update("""
+            INSERT INTO car.car (object_id, year, model_id)
+            SELECT 'car-' || i, (2010 + i % 7)::TEXT, m.model_id
+            FROM generate_series(1, ?) i
+                     JOIN (SELECT model_id, row_number() OVER (ORDER BY model_id) - 1 AS ordinal FROM car.model) m
+                          ON m.ordinal = i % 9
+            """, SEEDED_CARS);
+        jdbcTemplate.update("INSERT INTO car.car (object_id, year) VALUES ('orphan', '2012')");
+        jdbcTemplate.update("""
+            INSERT INTO car.car_category (car_id, category_id)
+            SELECT c.id, cat.category_id
+            FROM car.car c
+                     JOIN car.category cat ON cat.name = 'SUV' AND c.id % 2 = 0
+                OR cat.name = 'Sedan' AND c.id % 3 = 0
+                OR cat.name = 'Coupe' AND c.id % 5 = 0
+            """);
+        carFacetService.refresh();
+    }
+
+    @Test
+    void testUnfilteredFacetsMatchListingCounts() {
+        CarFacetsDTO facets = carFacetService.getFacets(CarFilterDTO.builder().build());
+
+        assertEquals(SEEDED_CARS + 1, facets.total());
+        assertFacetsMatchListing(CarFilterDTO.builder().build(), facets);
+    }
+
+    @Test
+    void testFilteredFacetsMatchListingCounts() {
+        CarFilterDTO filter = CarFilterDTO.builder().manufacturer("BMW").minYear(2012).maxYear(2015).category("SUV").build();
+
+        CarFacetsDTO facets = carFacetService.getFacets(filter);
+
+        assertEquals(listingTotal(filter), facets.total());
+        assertEquals(List.of("BMW"), facets.manufacturers().stream().map(FacetCountDTO::value).toList());
+        assertTrue(facets.years().stream().allMatch(year -> year.value().compareTo("2012") >= 0 && year.value().compareTo("2015") <= 0));
+        assertFacetsMatchListing(filter, facets);
+    }
+
+    @Test
+    void testUnknownValuesGiveEmptyFacets() {
+        CarFacetsDTO facets = carFacetService.getFacets(CarFilterDTO.builder().category("Pickup").build());
+
+        assertEquals(0, facets.total());
+        assertEquals(List.of(), facets.manufacturers());
+        assertEquals(List.of(), facets.years());
+    }
+
+    @Test
+    void testStaleIndexIsServedWhileRefreshing() throws InterruptedException {
+        CarFacetProperties properties = new CarFacetProperties();
+        properties.setRefreshInterval(Duration.ZERO);
+        CarFacetService service = new CarFacetService(carFacetRepository, properties, transactionManager);
+        CarFilterDTO filter = CarFilterDTO.builder().build();
+        CarFacetsDTO initial = service.getFacets(filter);
+
+        jdbcTemplate.update("INSERT INTO car.car (object_id, year) VALUES ('late', '2020')");
+        CarFacetsDTO stale = service.getFacets(filter);
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        CarFacetsDTO refreshed = service.getFacets(filter);
+        while (refreshed.total() == stale.total() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            refreshed = service.getFacets(filter);
+        }
+        service.shutdown();
+
+        assertEquals(SEEDED_CARS + 1, initial.total());
+        assertEquals(SEEDED_CARS + 1, stale.total());
+        assertEquals(SEEDED_CARS + 2, refreshed.total());
+        assertTrue(refreshed.indexedAt().isAfter(initial.indexedAt()));
+    }
+
+    @Test
+    void testFirstRequestWaitsForWarmUp() throws InterruptedException {
+        CarFacetService service = new CarFacetService(carFacetRepository, new CarFacetProperties(), transactionManager);
+
+        CompletableFuture<CarFacetIndex> warmUp = service.refreshAsync();
+        CarFacetsDTO facets = service.getFacets(CarFilterDTO.builder().build());
+        service.shutdown();
+
+        assertEquals(SEEDED_CARS + 1, facets.total());
+        assertEquals(warmUp.join().getIndexedAt(), facets.indexedAt());
+    }
+
+    @Test
+    void testWriteTriggersRefreshBeforeInterval() throws InterruptedException {
+        CarFacetProperties properties = new CarFacetProperties();
+        properties.setRefreshInterval(Duration.ofHours(1));
+        CarFacetService service = new CarFacetService(carFacetRepository, properties, transactionManager);
+        CarFilterDTO filter = CarFilterDTO.builder().build();
+        CarFacetsDTO initial = service.getFacets(filter);
+
+        jdbcTemplate.update("INSERT INTO car.car (object_id, year) VALUES ('late', '2020')");
+        assertEquals(initial.total(), service.getFacets(filter).total());
+
+        service.onCarsChanged(new CarsChangedEvent());
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        CarFacetsDTO refreshed = service.getFacets(filter);
+        while (refreshed.total() == initial.total() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            refreshed = service.getFacets(filter);
+        }
+        service.shutdown();
+
+        assertEquals(SEEDED_CARS + 2, refreshed.total());
+    }
+
+    private void assertFacetsMatchListing(CarFilterDTO filter, CarFacetsDTO facets) {
+        assertCounts(facets.manufacturers(), value -> copy(filter).manufacturer(value).build());
+        assertCounts(facets.models(), value -> copy(filter).model(value).build());
+        assertCounts(facets.categories(), value -> copy(filter).category(value).build());
+        assertCounts(facets.years(), value -> copy(filter).minYear(Integer.valueOf(value)).maxYear(Integer.valueOf(value)).build());
+    }
+
+    private void assertCounts(List<FacetCountDTO> counts, Function<String, CarFilterDTO> narrowed) {
+        assertFalse(counts.isEmpty());
+        for (FacetCountDTO count : counts) {
+            assertEquals(listingTotal(narrowed.apply(count.value())), count.count(), count.value());
+        }
+    }
+
+    private static CarFilterDTO.CarFilterDTOBuilder copy(CarFilterDTO filter) {
+        return CarFilterDTO.builder()
+            .manufacturer(filter.getManufacturer())
+            .model(filter.getModel())
+            .minYear(filter.getMinYear())
+            .maxYear(filter.getMaxYear())
+            .category(filter.getCategory());
+    }
+
+    private long listingTotal(CarFilterDTO filter) {
+        return carSummaryRepository.findSummaries(copy(filter).pageable(Pageable.ofSize(1)).build()).getTotalElements();
+    }
+}
@@ -0,0 +1,290 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarRepository;
+import dev.alexcoss.carservice.repository.CarSpecification;
+import dev.alexcoss.carservice.repository.CarSummaryRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import({CarSummaryRepository.class, CarFilterQueryPlanTest.StatementRecorderConfig.class})
+class CarFilterQueryPlanTest extends PostgresContainerTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+    private static final Pattern CAR_SEQ_SCAN = Pattern.compile("Seq Scan on car(_category)? ");
+    private static final List<ExecutedStatement> EXECUTED = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private CarSummaryRepository carSummaryRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        truncate();
+        jdbcTemplate.execute("INSERT INTO car.producer (producer_id, name) " +
+            "SELECT i, 'Producer ' || i FROM generate_series(1, 1000) i");
+        jdbcTemplate.execute("INSERT INTO car.model (model_id, name, producer_id) " +
+            "SELECT i, 'Model ' || i, i % 1000 + 1 FROM generate_series(1, 10000) i");
+        jdbcTemplate.execute("INSERT INTO car.category (category_id, name) " +
+            "SELECT i, 'Category ' || i FROM generate_series(1, 200) i");
+        jdbcTemplate.execute("INSERT INTO car.car (id, object_id, year, model_id) " +
+            "SELECT i, 'car-' || i, (1950 + i % 100)::text, i % 10000 + 1 FROM generate_series(1, 1000000) i");
+        jdbcTemplate.execute("INSERT INTO car.car_category (car_id, category_id) " +
+            "SELECT i, i % 200 + 1 FROM generate_series(1, 1000000) i " +
+            "UNION ALL SELECT i, (i + 7) % 200 + 1 FROM generate_series(1, 1000000) i");
+        jdbcTemplate.execute("VACUUM ANALYZE car.producer, car.model, car.category, car.car, car.car_category");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        truncate();
+    }
+
+    @BeforeEach
+    void clearExecutedStatements() {
+        EXECUTED.clear();
+    }
+
+    @Test
+    void testProducerFilterUsesIndexes() {
+        List<String> plans = explainFindIds(CarSpecification.hasProducer("Producer 7"));
+
+        assertUses(plans, "model_producer_id_index", "car_model_id_index");
+    }
+
+    @Test
+    void testModelFilterUsesIndexes() {
+        List<String> plans = explainFindIds(CarSpecification.hasModel("Model 42"));
+
+        assertUses(plans, "model_name_index", "car_model_id_index");
+    }
+
+    @Test
+    void testYearRangeFilterUsesNumericYearIndex() {
+        List<String> plans = explainFindIds(CarSpecification.hasYearGreaterThanOrEqualTo(2001)
+            .and(CarSpecification.hasYearLessThanOrEqualTo(2001)));
+
+        assertUses(plans, "car_year_number_index");
+    }
+
+    @Test
+    void testCategoryFilterUsesIndexes() {
+        List<String> plans = explainFindIds(CarSpecification.hasCategory("Category 13"));
+
+        assertUses(plans, "car_category_category_id_index");
+    }
+
+    @Test
+    void testCombinedFilterUsesIndexes() {
+        List<String> plans = explainFindIds(CarSpecification.hasProducer("Producer 8")
+            .and(CarSpecification.hasModel("Model 7007"))
+            .and(CarSpecification.hasYearGreaterThanOrEqualTo(1950))
+            .and(CarSpecification.hasCategory("Category 7")));
+
+        assertUses(plans, "model_name_index", "car_model_id_index");
+    }
+
+    @Test
+    void testModelNameSearchUsesTrigramIndex() {
+        carModelRepository.searchVersionsByName("Modl 4242", FIRST_PAGE);
+
+        List<String> plans = explainExecuted("match_model_names", false);
+        assertFalse(plans.isEmpty());
+        for (String plan : plans) {
+            assertTrue(plan.contains("model_name_trgm_index"), plan);
+            assertFalse(plan.contains("Seq Scan on model "), plan);
+        }
+    }
+
+    @Test
+    void testProducerNameSearchCanUseTrigramIndex() {
+        producerRepository.searchVersionsByName("Prodcer 77", FIRST_PAGE);
+
+        List<String> plans = explainExecuted("OPERATOR(public.<%) p.name", true);
+        assertFalse(plans.isEmpty());
+        for (String plan : plans) {
+            assertTrue(plan.contains("producer_name_trgm_index"), plan);
+        }
+    }
+
+    @Test
+    void testCarNameSearchUsesTrigramIndexes() {
+        carSummaryRepository.findIds(CarFilterDTO.builder().search("Model 4242").pageable(FIRST_PAGE).build());
+
+        List<String> plans = explainExecuted("match_model_names", false);
+        assertEquals(2, plans.size());
+        for (String plan : plans) {
+            assertTrue(plan.contains("model_name_trgm_index"), plan);
+            assertTrue(plan.contains("car_model_id_index"), plan);
+            assertNoCarSeqScan(plan);
+        }
+    }
+
+    private List<String> explainFindIds(Specification<Car> spec) {
+        carRepository.findIds(spec, FIRST_PAGE);
+        return explainExecuted("from car.car ", false);
+    }
+
+    private List<String> explainExecuted(String sqlFragment, boolean withoutSeqScan) {
+        return List.copyOf(EXECUTED).stream()
+            .filter(executed -> executed.sql().contains(sqlFragment))
+            .map(executed -> explain(executed, withoutSeqScan))
+            .toList();
+    }
+
+    private String explain(ExecutedStatement executed, boolean withoutSeqScan) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement settings = connection.createStatement();
+                 PreparedStatement statement = connection.prepareStatement("EXPLAIN " + executed.sql())) {
+                if (withoutSeqScan) {
+                    settings.execute("SET enable_seqscan = off");
+                }
+                for (int i = 0; i < executed.parameters().size(); i++) {
+                    statement.setObject(i + 1, executed.parameters().get(i));
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        lines.add(resultSet.getString(1));
+                    }
+                } finally {
+                    settings.execute("RESET enable_seqscan");
+                }
+                return executed.sql() + "\n" + executed.parameters() + "\n" + String.join("\n", lines);
+            }
+        });
+    }
+
+    private static void assertUses(List<String> plans, String... indexes) {
+        assertEquals(2, plans.size(), String.join("\n\n", plans));
+        String allPlans = String.join("\n\n", plans);
+        for (String index : indexes) {
+            assertTrue(allPlans.contains(index), allPlans);
+        }
+        plans.forEach(CarFilterQueryPlanTest::assertNoCarSeqScan);
+    }
+
+    private static void assertNoCarSeqScan(String plan) {
+        assertFalse(CAR_SEQ_SCAN.matcher(plan).find(), plan);
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+    }
+
+    private record ExecutedStatement(String sql, List<Object> parameters) {
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+
+        @Bean
+        static BeanPostProcessor statementRecorder() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? recording(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource recording(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args, result) ->
+                result instanceof Connection connection ? recording(connection) : result);
+        }
+
+        private static Connection recording(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) ->
+                method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement
+                    ? recording(statement, (String) args[0])
+                    : result);
+        }
+
+        private static PreparedStatement recording(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    parameters.put(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                } else if (name.equals("executeQuery") && args == null && !sql.startsWith("EXPLAIN ")) {
+                    EXECUTED.add(new ExecutedStatement(sql, new ArrayList<>(parameters.values())));
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultDecorator decorator) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                try {
+                    return decorator.decorate(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        private interface ResultDecorator {
+            Object decorate(Method method, Object[] args, Object result) throws Exception;
+        }
+    }
+}
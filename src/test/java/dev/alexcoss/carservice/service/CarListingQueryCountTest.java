@@ -0,0 +1,184 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.dto.CarSummaryDTO;
+import dev.alexcoss.carservice.dto.CursorPageDTO;
+import dev.alexcoss.carservice.mapper.CarMapper;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.CategoryMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarRepository;
+import dev.alexcoss.carservice.repository.CarSummaryRepository;
+import dev.alexcoss.carservice.repository.CategoryRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.util.VersionedId;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CarService.class, CarSummaryRepository.class, CarMapper.class, CarModelMapper.class, ProducerMapper.class, CategoryMapper.class})
+class CarListingQueryCountTest extends PostgresContainerTest {
+
+    private static final int SEEDED_CARS = 120;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+
+        List<Category> categories = categoryRepository.saveAll(List.of(
+            Category.builder().name("SUV").build(),
+            Category.builder().name("Sedan").build(),
+            Category.builder().name("Coupe").build()));
+
+        List<Car> cars = new ArrayList<>();
+        for (int i = 0; i < SEEDED_CARS; i++) {
+            Producer producer = producerRepository.save(Producer.builder().name("Producer " + i).build());
+            CarModel carModel = carModelRepository.save(CarModel.builder().name("Model " + i).producer(producer).build());
+            cars.add(Car.builder()
+                .objectId("car-" + i)
+                .year(String.valueOf(2000 + i % 20))
+                .carModel(carModel)
+                .categories(new HashSet<>(Set.of(categories.get(i % 3), categories.get((i + 1) % 3))))
+                .build());
+        }
+        carRepository.saveAll(cars);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 50})
+    void testListingRunsConstantNumberOfQueries(int pageSize) {
+        Page<CarDTO> page = carService.getListCarsWithPagination(CarFilterDTO.builder()
+            .pageable(PageRequest.of(1, pageSize, Sort.by("year", "id")))
+            .build());
+
+        assertEquals(pageSize, page.getNumberOfElements());
+        assertEquals(SEEDED_CARS, page.getTotalElements());
+        assertTrue(page.getContent().stream().allMatch(car ->
+            car.getCarModel().getProducer() != null && car.getCategories().size() == 2));
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"SUV", "Sedan"})
+    void testFilteredListingRunsConstantNumberOfQueries(String category) {
+        Page<CarDTO> page = carService.getListCarsWithPagination(CarFilterDTO.builder()
+            .category(category)
+            .minYear(2005)
+            .pageable(PageRequest.of(0, 10))
+            .build());
+
+        assertEquals(10, page.getNumberOfElements());
+        assertTrue(page.getContent().stream().allMatch(car ->
+            car.getCategories().stream().anyMatch(categoryDTO -> categoryDTO.getName().equals(category))));
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testVersionListingDoesNotLoadCars() {
+        Page<VersionedId> page = carService.getCarVersions(CarFilterDTO.builder()
+            .pageable(PageRequest.of(0, 20, Sort.by("year", "id")))
+            .build());
+
+        assertEquals(20, page.getNumberOfElements());
+        assertTrue(page.getContent().stream().allMatch(carId -> carId.eTag() != null));
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testKeysetListingWalksAllCarsWithoutCountQuery() {
+        Set<Long> seen = new HashSet<>();
+        String previousYear = "";
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageDTO<CarDTO> page = carService.getListCarsAfter(CarFilterDTO.builder().build(), cursor, 25, Sort.by("year"));
+            for (CarDTO car : page.getContent()) {
+                assertTrue(seen.add(car.getId()));
+                assertTrue(car.getYear().compareTo(previousYear) >= 0);
+                previousYear = car.getYear();
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(SEEDED_CARS, seen.size());
+        assertEquals(pages * 3L, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testSummaryListingFiltersAndSortsWithoutLoadingEntities() {
+        Page<CarSummaryDTO> page = carService.getCarSummaries(CarFilterDTO.builder()
+            .category("Coupe")
+            .minYear(2010)
+            .pageable(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "year")))
+            .build());
+
+        assertEquals(10, page.getNumberOfElements());
+        assertEquals(40, page.getTotalElements());
+        assertTrue(page.getContent().stream().allMatch(car -> car.categories().contains("Coupe")
+            && car.categories().size() == 2 && Integer.parseInt(car.year()) >= 2010));
+        assertEquals("2019", page.getContent().get(0).year());
+        assertEquals(page.getContent().get(0).model().replace("Model", "Producer"), page.getContent().get(0).manufacturer());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
@@ -2,17 +2,26 @@ package dev.alexcoss.carservice.service;
 
 import dev.alexcoss.carservice.dto.CarModelDTO;
 import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
 import dev.alexcoss.carservice.model.CarModel;
 import dev.alexcoss.carservice.model.Producer;
 import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.service.typeahead.CarModelSavedEvent;
 import dev.alexcoss.carservice.util.exception.EntityNotExistException;
 import dev.alexcoss.carservice.util.exception.IllegalModelException;
+import dev.alexcoss.carservice.util.exception.IllegalSortException;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.Optional;
 
@@ -26,8 +35,11 @@ class CarModelServiceTest {
     @Mock
     private CarModelRepository carModelRepository;
 
+    @Spy
+    private CarModelMapper carModelMapper = new CarModelMapper(new ProducerMapper(), mock(EntityManager.class));
+
     @Mock
-    private ModelMapper modelMapper;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private CarModelService carModelService;
@@ -44,17 +56,13 @@ class CarModelServiceTest {
         CarModel carModel = new CarModel();
         carModel.setName("Model S");
 
-        when(modelMapper.map(any(CarModelDTO.class), eq(CarModel.class))).thenReturn(carModel);
         when(carModelRepository.save(any(CarModel.class))).thenReturn(carModel);
-        when(modelMapper.map(any(CarModel.class), eq(CarModelDTO.class))).thenReturn(carModelDTO);
-
         CarModelDTO createdCarModelDTO = carModelService.createCarModel(carModelDTO);
 
         assertNotNull(createdCarModelDTO);
         assertEquals("Model S", createdCarModelDTO.getName());
         verify(carModelRepository, times(1)).save(any(CarModel.class));
-        verify(modelMapper, times(1)).map(any(CarModelDTO.class), eq(CarModel.class));
-        verify(modelMapper, times(1)).map(any(CarModel.class), eq(CarModelDTO.class));
+        verify(eventPublisher).publishEvent(new CarModelSavedEvent(null, "Model S", null));
     }
 
     @Test
@@ -83,17 +91,14 @@ class CarModelServiceTest {
         when(carModelRepository.findById(carModelDTO.getId())).thenReturn(Optional.of(existingCarModel));
         when(carModelRepository.save(any(CarModel.class))).thenReturn(updatedCarModel);
 
-        doReturn(existingProducer).when(modelMapper).map(producerDTO, Producer.class);
-        doReturn(carModelDTO).when(modelMapper).map(updatedCarModel, CarModelDTO.class);
-
         CarModelDTO updatedCarModelDTO = carModelService.updateCarModel(carModelDTO);
 
         assertNotNull(updatedCarModelDTO);
         assertEquals("Model 3", updatedCarModelDTO.getName());
         verify(carModelRepository, times(1)).findById(carModelDTO.getId());
         verify(carModelRepository, times(1)).save(existingCarModel);
-        verify(modelMapper, times(1)).map(updatedCarModel, CarModelDTO.class);
-        verify(modelMapper, times(1)).map(producerDTO, Producer.class);
+        assertEquals("Model 3", existingCarModel.getName());
+        assertSame(existingProducer, existingCarModel.getProducer());
     }
 
 
@@ -124,4 +129,12 @@ class CarModelServiceTest {
         verify(carModelRepository, times(1)).findById(carModelDTO.getId());
         verify(carModelRepository, times(0)).save(any(CarModel.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchRejectsSort() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+
+        assertThrows(IllegalSortException.class, () -> carModelService.searchCarModelVersions("merc", pageable));
+        verifyNoInteractions(carModelRepository);
+    }
+}
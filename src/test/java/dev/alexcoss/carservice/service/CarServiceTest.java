@@ -4,16 +4,23 @@ import dev.alexcoss.carservice.dto.CarDTO;
 import dev.alexcoss.carservice.dto.CarFilterDTO;
 import dev.alexcoss.carservice.dto.CarModelDTO;
 import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.mapper.CarMapper;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.CategoryMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
 import dev.alexcoss.carservice.model.Car;
 import dev.alexcoss.carservice.model.CarModel;
 import dev.alexcoss.carservice.repository.CarRepository;
+import dev.alexcoss.carservice.util.VersionedId;
 import dev.alexcoss.carservice.util.exception.EntityNotExistException;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -21,10 +28,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -36,7 +46,10 @@ class CarServiceTest {
     private CarRepository carRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private CarMapper carMapper = new CarMapper(new CarModelMapper(new ProducerMapper(), mock(EntityManager.class)), new CategoryMapper(), mock(EntityManager.class));
 
     @InjectMocks
     private CarService carService;
@@ -55,15 +68,11 @@ class CarServiceTest {
         car.setYear(year);
         car.setCarModel(carModel);
 
-        when(modelMapper.map(any(CarDTO.class), eq(Car.class))).thenReturn(car);
         when(carRepository.save(any(Car.class))).thenReturn(car);
-        when(modelMapper.map(any(Car.class), eq(CarDTO.class))).thenReturn(carDTO);
-
         CarDTO createdCarDTO = carService.createCar(carDTO);
 
         assertNotNull(createdCarDTO);
         verify(carRepository, times(1)).save(any(Car.class));
-        verify(modelMapper, times(2)).map(any(), any());
     }
 
     @Test
@@ -78,9 +87,7 @@ class CarServiceTest {
         existingCar.setCarModel(carModel);
 
         when(carRepository.findById(carDTO.getId())).thenReturn(Optional.of(existingCar));
-        when(modelMapper.map(carDTO.getCarModel(), CarModel.class)).thenReturn(carModel);
         when(carRepository.save(any(Car.class))).thenReturn(existingCar);
-        when(modelMapper.map(any(Car.class), eq(CarDTO.class))).thenReturn(carDTO);
 
         CarDTO updatedCarDTO = carService.updateCar(carDTO);
 
@@ -100,19 +107,64 @@ class CarServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         Car car = new Car();
+        car.setId(1L);
         car.setYear("2022");
         CarModel carModel = new CarModel();
         carModel.setName("Model S");
         car.setCarModel(carModel);
-        Page<Car> carPage = new PageImpl<>(Collections.singletonList(car));
+        Page<Long> idPage = new PageImpl<>(Collections.singletonList(1L));
+
+        when(carRepository.findIds(any(Specification.class), eq(pageable))).thenReturn(idPage);
+        when(carRepository.findByIdIn(List.of(1L))).thenReturn(List.of(car));
+
+        Page<CarDTO> result = carService.getListCarsWithPagination(new CarFilterDTO(producerName, modelName, minYear, maxYear, category, null, pageable));
+
+        assertEquals(1, result.getTotalElements());
+        verify(carRepository, times(1)).findIds(any(Specification.class), eq(pageable));
+        verify(carRepository, times(1)).findByIdIn(List.of(1L));
+        verify(carMapper, times(1)).toDTO(car);
+    }
+
+    @Test
+    void testGetListCarsWithPaginationKeepsIdOrder() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Car first = Car.builder().id(2L).year("2020").build();
+        Car second = Car.builder().id(1L).year("2021").build();
 
-        when(carRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(carPage);
-        when(modelMapper.map(any(Car.class), eq(CarDTO.class))).thenReturn(new CarDTO());
+        when(carRepository.findIds(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(2L, 1L)));
+        when(carRepository.findByIdIn(List.of(2L, 1L))).thenReturn(List.of(second, first));
+
+        Page<CarDTO> result = carService.getListCarsWithPagination(CarFilterDTO.builder().pageable(pageable).build());
+
+        assertEquals(List.of(2L, 1L), result.map(CarDTO::getId).getContent());
+    }
+
+    @Test
+    void testGetCarVersionsBuildsETagsWithoutLoadingCars() {
+        Pageable pageable = PageRequest.of(0, 10);
+        CarRepository.Versions versions = mock(CarRepository.Versions.class);
+        when(versions.getId()).thenReturn(2L);
+        when(versions.getVersion()).thenReturn(3L);
+        when(versions.getModelVersion()).thenReturn(1L);
+        when(carRepository.findIds(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(2L)));
+        when(carRepository.findVersionsByIdIn(List.of(2L))).thenReturn(List.of(versions));
+
+        Page<VersionedId> result = carService.getCarVersions(CarFilterDTO.builder().pageable(pageable).build());
+
+        assertEquals(List.of(new VersionedId(2L, "\"3.1.0\"")), result.getContent());
+        verify(carRepository, never()).findByIdIn(any());
+        verify(carMapper, never()).toDTO(any());
+    }
+
+    @Test
+    void testGetListCarsWithPaginationSkipsFetchForEmptyPage() {
+        Pageable pageable = PageRequest.of(5, 10);
+        when(carRepository.findIds(any(Specification.class), eq(pageable))).thenReturn(Page.empty(pageable));
 
-        Page<CarDTO> result = carService.getListCarsWithPagination(new CarFilterDTO(producerName, modelName, minYear, maxYear, category, pageable));
+        Page<CarDTO> result = carService.getListCarsWithPagination(CarFilterDTO.builder().pageable(pageable).build());
 
-        verify(carRepository, times(1)).findAll(any(Specification.class), eq(pageable));
-        verify(modelMapper, times(1)).map(any(Car.class), eq(CarDTO.class));
+        assertTrue(result.isEmpty());
+        verify(carRepository, never()).findByIdIn(any());
     }
 
     @Test
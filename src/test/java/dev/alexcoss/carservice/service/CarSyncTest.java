@@ -0,0 +1,129 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.config.CsvImportProperties;
+import dev.alexcoss.carservice.dto.ImportReportDTO;
+import dev.alexcoss.carservice.repository.CarJdbcRepository;
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import dev.alexcoss.carservice.service.csv.ImportProgress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CsvCarService.class, SimpleMeterRegistry.class, CarDictionaryService.class, CarJdbcRepository.class, CsvImportProperties.class})
+class CarSyncTest extends PostgresContainerTest {
+
+    private static final String HEADER = "objectId,Make,Year,Model,Category\n";
+    private static final String BUNDLED_FILE = "src/main/resources/csv/small_file.csv";
+
+    @Autowired
+    private CsvCarService csvCarService;
+
+    @Autowired
+    private CsvImportProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+        properties.setDeleteMissing(true);
+    }
+
+    @Test
+    void testResyncOfUnchangedFeedWritesNothing() throws IOException {
+        Path feed = writeFeed("""
+            A1,Audi,2020,Q3,SUV
+            B2,Audi,2021,A4,"Sedan, Wagon"
+            C3,BMW,2019,X5,SUV
+            """);
+
+        ImportReportDTO first = csvCarService.parseAndSaveCars(feed.toString(), ImportMode.SYNC);
+        ImportReportDTO second = csvCarService.parseAndSaveCars(feed.toString(), ImportMode.SYNC);
+
+        assertEquals(new ImportReportDTO(3, 0, 0, 0), first);
+        assertEquals(new ImportReportDTO(0, 0, 3, 0), second);
+        assertEquals(3L, jdbcTemplate.queryForObject("SELECT count(*) FROM car.car", Long.class));
+        assertEquals(4L, jdbcTemplate.queryForObject("SELECT count(*) FROM car.car_category", Long.class));
+    }
+
+    @Test
+    void testBundledFileCanBeReimportedOnEveryStart() {
+        jdbcTemplate.update("INSERT INTO car.car (object_id, year) VALUES ('api-created', '2024')");
+
+        ImportReportDTO first = csvCarService.parseAndSaveCars(BUNDLED_FILE, ImportMode.SYNC, false, new ImportProgress());
+        ImportReportDTO second = csvCarService.parseAndSaveCars(BUNDLED_FILE, ImportMode.SYNC, false, new ImportProgress());
+
+        assertEquals(0, first.getUnchanged());
+        assertEquals(new ImportReportDTO(0, 0, first.getInserted(), 0), second);
+        assertEquals(first.getInserted() + 1, jdbcTemplate.queryForObject("SELECT count(*) FROM car.car", Long.class));
+    }
+
+    @Test
+    void testResyncAppliesOnlyTheDelta() throws IOException {
+        csvCarService.parseAndSaveCars(writeFeed("""
+            A1,Audi,2020,Q3,SUV
+            B2,Audi,2021,A4,"Sedan, Wagon"
+            C3,BMW,2019,X5,SUV
+            """).toString(), ImportMode.SYNC);
+        Long unchangedId = jdbcTemplate.queryForObject("SELECT id FROM car.car WHERE object_id = 'A1'", Long.class);
+
+        ImportReportDTO report = csvCarService.parseAndSaveCars(writeFeed("""
+            A1,Audi,2020,Q3,SUV
+            B2,Audi,2021,A4,Sedan
+            B2,Audi,2022,A4,Sedan
+            D4,Tesla,2023,Model 3,Sedan
+            """).toString(), ImportMode.SYNC);
+
+        assertEquals(new ImportReportDTO(1, 1, 1, 1), report);
+        assertEquals(unchangedId, jdbcTemplate.queryForObject("SELECT id FROM car.car WHERE object_id = 'A1'", Long.class));
+        assertEquals("2022", jdbcTemplate.queryForObject("SELECT year FROM car.car WHERE object_id = 'B2'", String.class));
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT version FROM car.car WHERE object_id = 'B2'", Long.class));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT version FROM car.car WHERE object_id = 'A1'", Long.class));
+        assertEquals(1L, jdbcTemplate.queryForObject("""
+            SELECT count(*) FROM car.car_category cc JOIN car.car c ON c.id = cc.car_id WHERE c.object_id = 'B2'
+            """, Long.class));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT count(*) FROM car.car WHERE object_id = 'C3'", Long.class));
+    }
+
+    @Test
+    void testResyncKeepsMissingCarsWhenDeletionDisabled() throws IOException {
+        csvCarService.parseAndSaveCars(writeFeed("""
+            A1,Audi,2020,Q3,SUV
+            C3,BMW,2019,X5,SUV
+            """).toString(), ImportMode.SYNC);
+        properties.setDeleteMissing(false);
+
+        ImportReportDTO report = csvCarService.parseAndSaveCars(writeFeed("""
+            A1,Audi,2020,Q3,SUV
+            """).toString(), ImportMode.SYNC);
+
+        assertEquals(new ImportReportDTO(0, 0, 1, 0), report);
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT count(*) FROM car.car", Long.class));
+    }
+
+    private Path writeFeed(String rows) throws IOException {
+        return Files.writeString(Files.createTempFile(tempDir, "feed", ".csv"), HEADER + rows);
+    }
+}
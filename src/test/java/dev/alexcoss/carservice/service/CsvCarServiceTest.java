@@ -0,0 +1,246 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.config.CsvImportProperties;
+import dev.alexcoss.carservice.dto.ImportReportDTO;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Category;
+import dev.alexcoss.carservice.repository.CarJdbcRepository;
+import dev.alexcoss.carservice.repository.CarRepository;
+import dev.alexcoss.carservice.service.csv.CarDictionary;
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import dev.alexcoss.carservice.service.csv.ImportProgress;
+import dev.alexcoss.carservice.util.exception.ImportCancelledException;
+import dev.alexcoss.carservice.util.exception.CsvFileNotFoundException;
+import dev.alexcoss.carservice.util.exception.IllegalIdException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CsvCarServiceTest {
+
+    private static final String FILE_PATH = "src/main/resources/csv/small_file.csv";
+    private static final int FILE_ROWS = 998;
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private CarJdbcRepository carJdbcRepository;
+
+    @Mock
+    private CarDictionaryService carDictionaryService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CsvImportProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CsvCarService csvCarService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CsvImportProperties();
+        properties.setBatchSize(100);
+        properties.setWorkers(4);
+        meterRegistry = new SimpleMeterRegistry();
+        csvCarService = new CsvCarService(carRepository, carJdbcRepository, carDictionaryService,
+            entityManager, transactionTemplate, properties, meterRegistry, eventPublisher);
+
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        when(carDictionaryService.loadOrCreate(anyMap(), anySet())).thenAnswer(invocation -> {
+            Map<String, Set<String>> modelNamesByProducer = invocation.getArgument(0);
+            Set<String> categoryNames = invocation.getArgument(1);
+
+            Map<String, CarModel> models = new HashMap<>();
+            modelNamesByProducer.forEach((producer, modelNames) -> modelNames.forEach(model ->
+                models.put(CarDictionary.modelKey(producer, model), CarModel.builder().name(model).build())));
+            Map<String, Category> categories = new HashMap<>();
+            categoryNames.forEach(name -> categories.put(name, Category.builder().name(name).build()));
+            return new CarDictionary(models, categories);
+        });
+    }
+
+    @Test
+    void testStreamingImportFlushesAndClearsEveryBatch() {
+        csvCarService.parseAndSaveCars(FILE_PATH, ImportMode.STREAMING);
+
+        int chunks = (FILE_ROWS + properties.getBatchSize() - 1) / properties.getBatchSize();
+        verify(entityManager, times(FILE_ROWS)).persist(any(Car.class));
+        verify(entityManager, times(chunks)).flush();
+        verify(entityManager, times(chunks)).clear();
+        verify(transactionTemplate, times(chunks)).executeWithoutResult(any());
+        verify(carRepository, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    void testImportResolvesDictionariesOnceBeforeSavingCars() {
+        List<Car> persisted = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> persisted.add(invocation.getArgument(0))).when(entityManager).persist(any(Car.class));
+
+        csvCarService.parseAndSaveCars(FILE_PATH, ImportMode.STREAMING);
+
+        verify(carDictionaryService, times(1)).loadOrCreate(anyMap(), anySet());
+        assertEquals(FILE_ROWS, persisted.size());
+        assertTrue(persisted.stream().allMatch(car -> car.getCarModel() != null));
+        assertTrue(persisted.stream().noneMatch(car -> car.getCategories().contains(null)));
+    }
+
+    @Test
+    void testInMemoryImportSavesAllCarsAtOnce() {
+        csvCarService.parseAndSaveCars(FILE_PATH, ImportMode.IN_MEMORY);
+
+        verify(carRepository, times(1)).saveAll(anyIterable());
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void testCopyImportStreamsEveryBatchToCopyManager() {
+        List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> chunkSizes.add(invocation.<List<Car>>getArgument(0).size()))
+            .when(carJdbcRepository).copyCars(anyList());
+
+        csvCarService.parseAndSaveCars(FILE_PATH, ImportMode.COPY);
+
+        int chunks = (FILE_ROWS + properties.getBatchSize() - 1) / properties.getBatchSize();
+        assertEquals(chunks, chunkSizes.size());
+        assertEquals(FILE_ROWS, chunkSizes.stream().mapToInt(Integer::intValue).sum());
+        verify(transactionTemplate, times(chunks)).executeWithoutResult(any());
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void testSyncImportStagesEveryBatchInOneTransaction() {
+        ImportReportDTO merged = new ImportReportDTO(3, 2, 993, 4);
+        when(carJdbcRepository.mergeSyncStage(true)).thenReturn(merged);
+
+        ImportReportDTO report = csvCarService.parseAndSaveCars(FILE_PATH, ImportMode.SYNC, true, new ImportProgress());
+
+        int chunks = (FILE_ROWS + properties.getBatchSize() - 1) / properties.getBatchSize();
+        assertEquals(merged, report);
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(carJdbcRepository, times(1)).createSyncStage();
+        verify(carJdbcRepository, times(chunks)).copyToSyncStage(anyList());
+        verify(carJdbcRepository, never()).copyCars(anyList());
+    }
+
+    @Test
+    void testImportRecordsRowsAndPhaseTimings() {
+        when(carJdbcRepository.mergeSyncStage(false)).thenReturn(new ImportReportDTO(10, 5, 983, 0));
+
+        csvCarService.parseAndSaveCars(FILE_PATH, ImportMode.SYNC);
+
+        assertEquals(FILE_ROWS, meterRegistry.get("car.import.rows").tag("mode", "SYNC").counter().count());
+        assertEquals(1, meterRegistry.get("car.import.throughput").tag("mode", "SYNC").summary().count());
+        for (String phase : List.of("dictionary", "stage", "merge")) {
+            assertEquals(1, meterRegistry.get("car.import.phase").tags("mode", "SYNC", "phase", phase).timer().count());
+        }
+    }
+
+    @Test
+    void testSyncImportKeepsMissingCarsByDefault() {
+        when(carJdbcRepository.mergeSyncStage(false)).thenReturn(new ImportReportDTO());
+
+        csvCarService.parseAndSaveCars(FILE_PATH, ImportMode.SYNC);
+
+        verify(carJdbcRepository, times(1)).mergeSyncStage(false);
+    }
+
+    @Test
+    void testImportReportsProgress() {
+        ImportProgress progress = new ImportProgress();
+
+        csvCarService.parseAndSaveCars(FILE_PATH, ImportMode.COPY, progress);
+
+        assertEquals(FILE_ROWS, progress.getTotalRows());
+        assertEquals(FILE_ROWS, progress.getRowsDone());
+    }
+
+    @Test
+    void testImportStopsBetweenChunksWhenCancelled() {
+        ImportProgress progress = new ImportProgress();
+        doAnswer(invocation -> {
+            progress.cancel();
+            return null;
+        }).when(carJdbcRepository).copyCars(anyList());
+        properties.setWorkers(1);
+
+        assertThrows(ImportCancelledException.class,
+            () -> csvCarService.parseAndSaveCars(FILE_PATH, ImportMode.COPY, progress));
+        verify(carJdbcRepository, atMost(2)).copyCars(anyList());
+    }
+
+    @Test
+    void testImportFailsWhenWorkerFails() {
+        doThrow(new IllegalStateException("Connection refused")).when(carJdbcRepository).copyCars(anyList());
+
+        assertThrows(IllegalStateException.class, () -> csvCarService.parseAndSaveCars(FILE_PATH, ImportMode.COPY));
+    }
+
+    @Test
+    void testImportWithNullObjectIdFailsBeforeSaving(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("cars.csv");
+        Files.writeString(file, "objectId,Make,Year,Model,Category\nZRgPP9dBMm,Audi,2020,Q3,SUV\n,Audi,2020,Q3,SUV\n");
+
+        assertThrows(IllegalIdException.class,
+            () -> csvCarService.parseAndSaveCars(file.toString(), ImportMode.STREAMING));
+        verify(carDictionaryService, never()).loadOrCreate(anyMap(), anySet());
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void testImportWithMissingFile() {
+        assertThrows(CsvFileNotFoundException.class,
+            () -> csvCarService.parseAndSaveCars("missing.csv", ImportMode.STREAMING));
+    }
+}
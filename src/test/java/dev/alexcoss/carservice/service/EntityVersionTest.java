@@ -0,0 +1,190 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.CursorPageDTO;
+import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.mapper.CarMapper;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.CategoryMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.Car;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarRepository;
+import dev.alexcoss.carservice.repository.CarSummaryRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.util.ETags;
+import dev.alexcoss.carservice.util.VersionedId;
+import dev.alexcoss.carservice.util.exception.EntityNotExistException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CarService.class, CarModelService.class, ProducerService.class, CarSummaryRepository.class,
+    CarMapper.class, CarModelMapper.class, ProducerMapper.class, CategoryMapper.class})
+class EntityVersionTest extends PostgresContainerTest {
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private CarModelService carModelService;
+
+    @Autowired
+    private ProducerService producerService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Producer producer;
+
+    private CarModel carModel;
+
+    private Car car;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+
+        producer = producerRepository.save(Producer.builder().name("Audi").build());
+        carModel = carModelRepository.save(CarModel.builder().name("Q3").producer(producer).build());
+        car = carRepository.save(Car.builder().objectId("A1").year("2020").carModel(carModel).build());
+    }
+
+    @Test
+    void testETagMatchesLoadedRepresentation() {
+        assertEquals("\"0.0.0\"", carService.getCarETag(car.getId()));
+        assertEquals(carService.getCarETag(car.getId()), ETags.of(carService.getCarById(car.getId())));
+        assertEquals("\"0.0\"", carModelService.getCarModelETag(carModel.getId()));
+        assertEquals(carModelService.getCarModelETag(carModel.getId()), ETags.of(carModelService.getCarModelById(carModel.getId())));
+        assertEquals("\"0\"", producerService.getProducerETag(producer.getId()));
+        assertEquals(producerService.getProducerETag(producer.getId()), ETags.of(producerService.getProducerById(producer.getId())));
+    }
+
+    @Test
+    void testUpdateChangesETag() {
+        String carETag = carService.getCarETag(car.getId());
+
+        carService.updateCar(CarDTO.builder().id(car.getId()).year("2021").build());
+
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT version FROM car.car WHERE id = ?", Long.class, car.getId()));
+        assertNotEquals(carETag, carService.getCarETag(car.getId()));
+    }
+
+    @Test
+    void testProducerUpdateChangesETagOfEmbeddingResources() {
+        String carETag = carService.getCarETag(car.getId());
+        String carModelETag = ETags.of(carModelService.getCarModelById(carModel.getId()));
+        String producerETag = ETags.of(producerService.getProducerById(producer.getId()));
+
+        producerService.updateProducer(ProducerDTO.builder().id(producer.getId()).name("Audi AG").build());
+
+        assertNotEquals(carETag, carService.getCarETag(car.getId()));
+        assertEquals("\"0.1\"", ETags.of(carModelService.getCarModelById(carModel.getId())));
+        assertNotEquals(carModelETag, ETags.of(carModelService.getCarModelById(carModel.getId())));
+        assertNotEquals(producerETag, ETags.of(producerService.getProducerById(producer.getId())));
+        assertEquals("\"1\"", producerService.getProducerETag(producer.getId()));
+        assertEquals("\"0.1\"", carModelService.getCarModelETag(carModel.getId()));
+        assertEquals(carService.getCarETag(car.getId()), ETags.of(carService.getCarById(car.getId())));
+    }
+
+    @Test
+    void testUpdateReturnsStoredModelInsteadOfRequestedNames() {
+        CarModel otherModel = carModelRepository.save(CarModel.builder().name("Q5").producer(producer).build());
+
+        CarDTO updated = carService.updateCar(CarDTO.builder()
+            .id(car.getId())
+            .carModel(CarModelDTO.builder().id(otherModel.getId()).name("Bogus")
+                .producer(ProducerDTO.builder().id(producer.getId()).name("Bogus").build()).build())
+            .build());
+
+        assertEquals("Q5", updated.getCarModel().getName());
+        assertEquals("Audi", updated.getCarModel().getProducer().getName());
+        assertEquals("Q5", carService.getCarById(car.getId()).getCarModel().getName());
+        assertEquals("Q5", carModelRepository.findById(otherModel.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void testListVersionsMatchLoadedRepresentations() {
+        producerService.updateProducer(ProducerDTO.builder().id(producer.getId()).name("Audi AG").build());
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+
+        Page<VersionedId> producerIds = producerService.getProducerVersions(pageable);
+        Page<VersionedId> carModelIds = carModelService.getCarModelVersions("Audi AG", pageable);
+        CursorPageDTO<VersionedId> carModelCursorIds = carModelService.getCarModelVersionsAfter(null, "", 10, Sort.by("name"));
+        Page<VersionedId> carIds = carService.getCarVersions(CarFilterDTO.builder().pageable(PageRequest.of(0, 10)).build());
+
+        assertEquals(List.of(new VersionedId(producer.getId(), "\"1\"")), producerIds.getContent());
+        assertEquals(List.of(new VersionedId(carModel.getId(), "\"0.1\"")), carModelIds.getContent());
+        assertEquals(carModelIds.getContent(), carModelCursorIds.getContent());
+        assertEquals(List.of(new VersionedId(car.getId(), "\"0.0.1\"")), carIds.getContent());
+        assertEquals(ETags.of(producerService.getProducers(producerIds).getContent().get(0)), producerIds.getContent().get(0).eTag());
+        assertEquals(ETags.of(carModelService.getCarModels(carModelCursorIds).getContent().get(0)), carModelCursorIds.getContent().get(0).eTag());
+        assertEquals(ETags.of(carService.getCars(carIds).getContent().get(0)), carIds.getContent().get(0).eTag());
+        assertEquals(producerIds.getContent(), producerService.searchProducerVersions("audi", PageRequest.of(0, 10)).getContent());
+        assertEquals(carModelIds.getContent(), carModelService.searchCarModelVersions("q3", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void testRowsDeletedBetweenIdAndEntityQueriesAreSkipped() {
+        Producer otherProducer = producerRepository.save(Producer.builder().name("BMW").build());
+        CarModel otherModel = carModelRepository.save(CarModel.builder().name("X5").producer(otherProducer).build());
+        Car otherCar = carRepository.save(Car.builder().objectId("B1").year("2021").carModel(otherModel).build());
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+
+        Page<VersionedId> producerIds = producerService.getProducerVersions(pageable);
+        CursorPageDTO<VersionedId> producerCursorIds = producerService.getProducerVersionsAfter("", 10, Sort.by("name"));
+        Page<VersionedId> carModelIds = carModelService.getCarModelVersions(null, pageable);
+        CursorPageDTO<VersionedId> carModelCursorIds = carModelService.getCarModelVersionsAfter(null, "", 10, Sort.by("name"));
+        Page<VersionedId> carIds = carService.getCarVersions(CarFilterDTO.builder().pageable(PageRequest.of(0, 10)).build());
+        CursorPageDTO<VersionedId> carCursorIds = carService.getCarVersionsAfter(CarFilterDTO.builder().build(), "", 10, Sort.by("id"));
+
+        jdbcTemplate.update("DELETE FROM car.car WHERE id = ?", otherCar.getId());
+        jdbcTemplate.update("DELETE FROM car.model WHERE model_id = ?", otherModel.getId());
+        jdbcTemplate.update("DELETE FROM car.producer WHERE producer_id = ?", otherProducer.getId());
+
+        assertEquals(List.of(producer.getId()), producerService.getProducers(producerIds).map(ProducerDTO::getId).getContent());
+        assertEquals(List.of(producer.getId()), producerService.getProducers(producerCursorIds).getContent().stream().map(ProducerDTO::getId).toList());
+        assertEquals(List.of(carModel.getId()), carModelService.getCarModels(carModelIds).map(CarModelDTO::getId).getContent());
+        assertEquals(List.of(carModel.getId()), carModelService.getCarModels(carModelCursorIds).getContent().stream().map(CarModelDTO::getId).toList());
+        assertEquals(List.of(car.getId()), carService.getCars(carIds).map(CarDTO::getId).getContent());
+        assertEquals(List.of(car.getId()), carService.getCars(carCursorIds).getContent().stream().map(CarDTO::getId).toList());
+    }
+
+    @Test
+    void testETagOfMissingCar() {
+        assertThrows(EntityNotExistException.class, () -> carService.getCarETag(-1L));
+    }
+}
@@ -0,0 +1,229 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.config.CsvImportProperties;
+import dev.alexcoss.carservice.dto.ImportJobDTO;
+import dev.alexcoss.carservice.dto.ImportReportDTO;
+import dev.alexcoss.carservice.service.csv.ImportJobStatus;
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import dev.alexcoss.carservice.service.csv.ImportProgress;
+import dev.alexcoss.carservice.util.exception.EntityNotExistException;
+import dev.alexcoss.carservice.util.exception.IllegalImportPathException;
+import dev.alexcoss.carservice.util.exception.ImportJobRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImportJobServiceTest {
+
+    @Mock
+    private CsvCarService csvCarService;
+
+    @TempDir
+    private Path importDirectory;
+
+    private CsvImportProperties properties;
+
+    private ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CsvImportProperties();
+        properties.setDirectory(importDirectory.toString());
+        properties.setJobThreads(1);
+        properties.setJobQueueCapacity(1);
+        importJobService = new ImportJobService(csvCarService, properties, new MockEnvironment());
+    }
+
+    @AfterEach
+    void tearDown() {
+        importJobService.shutdown();
+    }
+
+    @Test
+    void testPathImportCompletesWithReport() throws Exception {
+        Files.writeString(importDirectory.resolve("cars.csv"), "objectId,Make,Year,Model,Category\n");
+        ImportReportDTO report = new ImportReportDTO(1, 2, 3, 4);
+        when(csvCarService.parseAndSaveCars(anyString(), eq(ImportMode.SYNC), anyBoolean(), any(ImportProgress.class))).thenReturn(report);
+
+        ImportJobDTO submitted = importJobService.submitPath("cars.csv", ImportMode.SYNC, null);
+        ImportJobDTO finished = awaitStatus(submitted.getId(), ImportJobStatus.COMPLETED);
+
+        assertEquals("cars.csv", finished.getFileName());
+        assertEquals(report, finished.getReport());
+        assertNotNull(finished.getFinishedAt());
+        verify(csvCarService).parseAndSaveCars(eq(importDirectory.resolve("cars.csv").toString()), eq(ImportMode.SYNC), eq(false), any());
+    }
+
+    @Test
+    void testJobsRunOnVirtualThreadsWhenEnabled() throws Exception {
+        importJobService.shutdown();
+        importJobService = new ImportJobService(csvCarService, properties,
+            new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+        Files.writeString(importDirectory.resolve("cars.csv"), "objectId,Make,Year,Model,Category\n");
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        when(csvCarService.parseAndSaveCars(anyString(), any(), anyBoolean(), any(ImportProgress.class))).thenAnswer(invocation -> {
+            worker.set(Thread.currentThread());
+            return new ImportReportDTO();
+        });
+
+        ImportJobDTO submitted = importJobService.submitPath("cars.csv", ImportMode.SYNC, null);
+        awaitStatus(submitted.getId(), ImportJobStatus.COMPLETED);
+
+        assertTrue(worker.get().isVirtual());
+        assertTrue(worker.get().getName().startsWith("import-job-"));
+    }
+
+    @Test
+    void testPathImportDeletesMissingCarsOnlyWhenRequested() throws Exception {
+        Files.writeString(importDirectory.resolve("cars.csv"), "objectId,Make,Year,Model,Category\n");
+        when(csvCarService.parseAndSaveCars(anyString(), any(), anyBoolean(), any())).thenReturn(new ImportReportDTO());
+
+        ImportJobDTO byDefault = importJobService.submitPath("cars.csv", ImportMode.SYNC, null);
+        awaitStatus(byDefault.getId(), ImportJobStatus.COMPLETED);
+        ImportJobDTO requested = importJobService.submitPath("cars.csv", ImportMode.SYNC, true);
+        awaitStatus(requested.getId(), ImportJobStatus.COMPLETED);
+
+        assertFalse(byDefault.isDeleteMissing());
+        assertTrue(requested.isDeleteMissing());
+        verify(csvCarService).parseAndSaveCars(anyString(), eq(ImportMode.SYNC), eq(false), any());
+        verify(csvCarService).parseAndSaveCars(anyString(), eq(ImportMode.SYNC), eq(true), any());
+    }
+
+    @Test
+    void testPathImportUsesConfiguredModeByDefault() throws Exception {
+        Files.writeString(importDirectory.resolve("cars.csv"), "objectId,Make,Year,Model,Category\n");
+        properties.setMode(ImportMode.COPY);
+
+        ImportJobDTO submitted = importJobService.submitPath("cars.csv", null, null);
+
+        assertEquals(ImportMode.COPY, submitted.getMode());
+    }
+
+    @Test
+    void testPathImportOutsideImportDirectory() {
+        assertThrows(IllegalImportPathException.class, () -> importJobService.submitPath("../cars.csv", ImportMode.SYNC, null));
+        assertThrows(IllegalImportPathException.class, () -> importJobService.submitPath("/etc/passwd", ImportMode.SYNC, null));
+        verifyNoInteractions(csvCarService);
+    }
+
+    @Test
+    void testPathImportWithMissingFile() {
+        assertThrows(EntityNotExistException.class, () -> importJobService.submitPath("missing.csv", ImportMode.SYNC, null));
+    }
+
+    @Test
+    void testUploadImportDeletesTemporaryFile() throws Exception {
+        AtomicReference<Path> importedFile = new AtomicReference<>();
+        when(csvCarService.parseAndSaveCars(anyString(), any(), anyBoolean(), any())).thenAnswer(invocation -> {
+            importedFile.set(Path.of(invocation.<String>getArgument(0)));
+            return new ImportReportDTO();
+        });
+
+        ImportJobDTO submitted = importJobService.submitUpload(
+            new MockMultipartFile("file", "upload.csv", "text/csv", "objectId\n".getBytes()), ImportMode.STREAMING, null);
+        awaitStatus(submitted.getId(), ImportJobStatus.COMPLETED);
+
+        assertEquals("upload.csv", submitted.getFileName());
+        assertFalse(Files.exists(importedFile.get()));
+    }
+
+    @Test
+    void testRunningJobStopsWhenCancelled() throws Exception {
+        Files.writeString(importDirectory.resolve("cars.csv"), "objectId,Make,Year,Model,Category\n");
+        CountDownLatch started = new CountDownLatch(1);
+        when(csvCarService.parseAndSaveCars(anyString(), any(), anyBoolean(), any())).thenAnswer(invocation -> {
+            ImportProgress progress = invocation.getArgument(3);
+            progress.setTotalRows(1000);
+            started.countDown();
+            while (true) {
+                progress.checkCancelled();
+                Thread.sleep(10);
+            }
+        });
+
+        ImportJobDTO submitted = importJobService.submitPath("cars.csv", ImportMode.STREAMING, null);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        importJobService.cancelJob(submitted.getId());
+
+        ImportJobDTO cancelled = awaitStatus(submitted.getId(), ImportJobStatus.CANCELLED);
+        assertEquals(1000L, cancelled.getTotalRows());
+        assertNull(cancelled.getEtaSeconds());
+    }
+
+    @Test
+    void testQueuedJobIsCancelledWithoutRunning() throws Exception {
+        Files.writeString(importDirectory.resolve("cars.csv"), "objectId,Make,Year,Model,Category\n");
+        CountDownLatch release = new CountDownLatch(1);
+        when(csvCarService.parseAndSaveCars(anyString(), any(), anyBoolean(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ImportReportDTO();
+        });
+
+        ImportJobDTO running = importJobService.submitPath("cars.csv", ImportMode.STREAMING, null);
+        ImportJobDTO queued = importJobService.submitPath("cars.csv", ImportMode.STREAMING, null);
+
+        assertEquals(ImportJobStatus.CANCELLED, importJobService.cancelJob(queued.getId()).getStatus());
+        release.countDown();
+        awaitStatus(running.getId(), ImportJobStatus.COMPLETED);
+
+        verify(csvCarService, times(1)).parseAndSaveCars(anyString(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    void testSubmitIsRejectedWhenQueueIsFull() throws Exception {
+        Files.writeString(importDirectory.resolve("cars.csv"), "objectId,Make,Year,Model,Category\n");
+        CountDownLatch release = new CountDownLatch(1);
+        when(csvCarService.parseAndSaveCars(anyString(), any(), anyBoolean(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ImportReportDTO();
+        });
+
+        importJobService.submitPath("cars.csv", ImportMode.STREAMING, null);
+        importJobService.submitPath("cars.csv", ImportMode.STREAMING, null);
+
+        assertThrows(ImportJobRejectedException.class, () -> importJobService.submitPath("cars.csv", ImportMode.STREAMING, null));
+        assertEquals(2, importJobService.getJobs().size());
+        release.countDown();
+    }
+
+    @Test
+    void testGetMissingJob() {
+        assertThrows(EntityNotExistException.class, () -> importJobService.getJob(UUID.randomUUID()));
+    }
+
+    private ImportJobDTO awaitStatus(UUID id, ImportJobStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ImportJobDTO job = importJobService.getJob(id);
+        while (job.getStatus() != status && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = importJobService.getJob(id);
+        }
+        assertEquals(status, job.getStatus());
+        return job;
+    }
+}
@@ -0,0 +1,129 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.mapper.CarMapper;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.CategoryMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import com.opencsv.bean.CsvToBeanBuilder;
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.config.CsvImportProperties;
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.model.CarCsv;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarJdbcRepository;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarSummaryRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.service.csv.ImportMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CsvCarService.class, SimpleMeterRegistry.class, CarDictionaryService.class, CarService.class, CarJdbcRepository.class, CarSummaryRepository.class,
+    CsvImportProperties.class,
+    CarMapper.class, CarModelMapper.class, ProducerMapper.class, CategoryMapper.class})
+class InsertThroughputBenchmarkTest extends PostgresContainerTest {
+
+    private static final String FILE_PATH = "src/main/resources/csv/file.csv";
+    private static final int CREATED_CARS = 2000;
+
+    private static long expectedCars;
+    private static long expectedCarCategories;
+
+    @Autowired
+    private CsvCarService csvCarService;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void countRows() throws IOException {
+        try (Reader reader = new FileReader(FILE_PATH)) {
+            List<CarCsv> cars = new CsvToBeanBuilder<CarCsv>(reader).withType(CarCsv.class).build().parse();
+            expectedCars = cars.size();
+            expectedCarCategories = cars.stream()
+                .mapToLong(car -> Arrays.stream(car.getCategory().split(",")).map(String::trim).distinct().count())
+                .sum();
+        }
+    }
+
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+    }
+
+    @ParameterizedTest
+    @EnumSource(ImportMode.class)
+    void testImportThroughput(ImportMode mode) {
+        long startTime = System.nanoTime();
+        csvCarService.parseAndSaveCars(FILE_PATH, mode);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+
+        log.info("{} import: {} cars in {} ms ({} rows/s)", mode, expectedCars, elapsedMillis,
+            expectedCars * 1000 / elapsedMillis);
+
+        assertEquals(expectedCars, jdbcTemplate.queryForObject("SELECT count(*) FROM car.car", Long.class));
+        assertEquals(expectedCarCategories, jdbcTemplate.queryForObject("SELECT count(*) FROM car.car_category", Long.class));
+    }
+
+    @Test
+    void testCreateCarThroughput() {
+        Producer producer = producerRepository.save(Producer.builder().name("Audi").build());
+        CarModel carModel = carModelRepository.save(CarModel.builder().name("Q3").producer(producer).build());
+        CarModelDTO carModelDTO = CarModelDTO.builder()
+            .id(carModel.getId())
+            .name(carModel.getName())
+            .producer(ProducerDTO.builder().id(producer.getId()).name(producer.getName()).build())
+            .build();
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < CREATED_CARS; i++) {
+            carService.createCar(CarDTO.builder()
+                .objectId("benchmark-" + i)
+                .year("2020")
+                .carModel(carModelDTO)
+                .build());
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+
+        log.info("createCar: {} cars in {} ms ({} rows/s)", CREATED_CARS, elapsedMillis,
+            CREATED_CARS * 1000L / elapsedMillis);
+
+        assertEquals(CREATED_CARS, jdbcTemplate.queryForObject("SELECT count(*) FROM car.car", Long.class));
+    }
+}
@@ -0,0 +1,144 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.dto.CarDTO;
+import dev.alexcoss.carservice.dto.CarFilterDTO;
+import dev.alexcoss.carservice.mapper.CarMapper;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.CategoryMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.CarSortProperty;
+import dev.alexcoss.carservice.repository.CarSummaryRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import dev.alexcoss.carservice.util.exception.IllegalSortException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CarService.class, CarSummaryRepository.class, CarMapper.class, CarModelMapper.class, ProducerMapper.class, CategoryMapper.class})
+class NameSearchTest extends PostgresContainerTest {
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+
+        Producer mercedes = producerRepository.save(Producer.builder().name("Mercedes-Benz").build());
+        Producer mercury = producerRepository.save(Producer.builder().name("Mercury").build());
+        Producer bmw = producerRepository.save(Producer.builder().name("BMW").build());
+        CarModel cClass = carModelRepository.save(CarModel.builder().name("C-Class").producer(mercedes).build());
+        CarModel grandMarquis = carModelRepository.save(CarModel.builder().name("Grand Marquis").producer(mercury).build());
+        CarModel x5 = carModelRepository.save(CarModel.builder().name("X5").producer(bmw).build());
+        carModelRepository.save(CarModel.builder().name("Mercer").producer(bmw).build());
+
+        insertCar("c-1", 2015, cClass);
+        insertCar("c-2", 2020, cClass);
+        insertCar("m-1", 2001, grandMarquis);
+        insertCar("x-1", 2019, x5);
+    }
+
+    @Test
+    void testProducerSearchMatchesPrefixSpellingAndTypos() {
+        assertEquals(List.of("Mercedes-Benz"), producerNames("Mercedes Benz"));
+        assertEquals(List.of("Mercedes-Benz"), producerNames("mercedez"));
+        assertEquals(Set.of("Mercury", "Mercedes-Benz"), Set.copyOf(producerNames("merc")));
+        assertEquals(List.of(), producerNames("toyota"));
+    }
+
+    @Test
+    void testModelSearchMatchesModelAndProducerNamesRankedBySimilarity() {
+        Page<CarModelRepository.Versions> versions = carModelRepository.searchVersionsByName("mercer", PageRequest.of(0, 10));
+        List<CarModel> models = carModelRepository.findByIdIn(versions.map(CarModelRepository.Versions::getId).getContent());
+
+        assertEquals("Mercer", modelName(versions.getContent().get(0).getId(), models));
+        assertEquals(versions.getTotalElements(), versions.getContent().size());
+        assertTrue(models.stream().noneMatch(model -> model.getName().equals("X5")));
+        assertTrue(versions.stream().allMatch(version -> version.getVersion() != null && version.getProducerVersion() != null));
+    }
+
+    @Test
+    void testCarSearchIsRankedAndCombinesWithFilters() {
+        Page<CarDTO> cars = carService.getListCarsWithPagination(CarFilterDTO.builder()
+            .search("mercedes benz")
+            .pageable(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "year")))
+            .build());
+        Page<CarDTO> filtered = carService.getListCarsWithPagination(CarFilterDTO.builder()
+            .search("merc")
+            .minYear(2016)
+            .pageable(PageRequest.of(0, 10))
+            .build());
+
+        assertEquals(List.of("c-2", "c-1"), cars.map(CarDTO::getObjectId).getContent());
+        assertEquals(2, cars.getTotalElements());
+        assertEquals(List.of("c-2"), filtered.map(CarDTO::getObjectId).getContent());
+    }
+
+    @Test
+    void testListingAndSearchAcceptTheSameSortProperties() {
+        for (CarSortProperty property : CarSortProperty.values()) {
+            Sort sort = Sort.by(Sort.Direction.DESC, property.getProperty());
+
+            carService.getCarVersions(CarFilterDTO.builder().pageable(PageRequest.of(0, 10, sort)).build());
+            carService.getCarVersions(CarFilterDTO.builder().search("merc").pageable(PageRequest.of(0, 10, sort)).build());
+        }
+        Page<CarDTO> byManufacturer = carService.getListCarsWithPagination(CarFilterDTO.builder()
+            .pageable(PageRequest.of(0, 10, Sort.by("manufacturer", "objectId")))
+            .build());
+
+        assertEquals(List.of("x-1", "c-1", "c-2", "m-1"), byManufacturer.map(CarDTO::getObjectId).getContent());
+        for (String property : List.of("yearNumber", "carModel.name", "color")) {
+            CarFilterDTO listing = CarFilterDTO.builder().pageable(PageRequest.of(0, 10, Sort.by(property))).build();
+            CarFilterDTO search = CarFilterDTO.builder().search("merc").pageable(PageRequest.of(0, 10, Sort.by(property))).build();
+
+            assertThrows(IllegalSortException.class, () -> carService.getCarVersions(listing));
+            assertThrows(IllegalSortException.class, () -> carService.getCarVersions(search));
+        }
+    }
+
+    private List<String> producerNames(String search) {
+        return producerRepository.searchVersionsByName(search, PageRequest.of(0, 10))
+            .map(version -> producerRepository.findById(version.getId()).map(Producer::getName).orElseThrow())
+            .getContent();
+    }
+
+    private String modelName(Long id, List<CarModel> models) {
+        return models.stream().filter(model -> model.getId().equals(id)).findFirst().map(CarModel::getName).orElseThrow();
+    }
+
+    private void insertCar(String objectId, int year, CarModel model) {
+        jdbcTemplate.update("INSERT INTO car.car (object_id, year, model_id) VALUES (?, ?, ?)", objectId, String.valueOf(year), model.getId());
+    }
+}
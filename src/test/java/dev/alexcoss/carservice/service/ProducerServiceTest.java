@@ -1,16 +1,22 @@
 package dev.alexcoss.carservice.service;
 
 import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
 import dev.alexcoss.carservice.model.Producer;
 import dev.alexcoss.carservice.repository.ProducerRepository;
 import dev.alexcoss.carservice.util.exception.EntityNotExistException;
 import dev.alexcoss.carservice.util.exception.IllegalProducerException;
+import dev.alexcoss.carservice.util.exception.IllegalSortException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.Optional;
 
@@ -26,8 +32,11 @@ class ProducerServiceTest {
     @Mock
     private ProducerRepository producerRepository;
 
+    @Spy
+    private ProducerMapper producerMapper = new ProducerMapper();
+
     @Mock
-    private ModelMapper modelMapper;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ProducerService producerService;
@@ -40,16 +49,12 @@ class ProducerServiceTest {
         Producer producer = new Producer();
         producer.setName("Tesla");
 
-        when(modelMapper.map(any(ProducerDTO.class), eq(Producer.class))).thenReturn(producer);
         when(producerRepository.save(any(Producer.class))).thenReturn(producer);
-        when(modelMapper.map(any(Producer.class), eq(ProducerDTO.class))).thenReturn(producerDTO);
-
         ProducerDTO createdProducer = producerService.createProducer(producerDTO);
 
         assertNotNull(createdProducer);
         assertEquals("Tesla", createdProducer.getName());
         verify(producerRepository, times(1)).save(producer);
-        verify(modelMapper, times(2)).map(any(), any());
     }
 
     @Test
@@ -68,7 +73,6 @@ class ProducerServiceTest {
 
         when(producerRepository.findById(producerDTO.getId())).thenReturn(Optional.of(existingProducer));
         when(producerRepository.save(existingProducer)).thenReturn(updatedProducer);
-        when(modelMapper.map(any(Producer.class), eq(ProducerDTO.class))).thenReturn(producerDTO);
 
         ProducerDTO updatedProducerDTO = producerService.updateProducer(producerDTO);
 
@@ -76,7 +80,6 @@ class ProducerServiceTest {
         assertEquals("Tesla", updatedProducerDTO.getName());
         verify(producerRepository, times(1)).findById(producerDTO.getId());
         verify(producerRepository, times(1)).save(existingProducer);
-        verify(modelMapper, times(1)).map(updatedProducer, ProducerDTO.class);
     }
 
     @Test
@@ -114,4 +117,12 @@ class ProducerServiceTest {
         verify(producerRepository, times(0)).findById(anyLong());
         verify(producerRepository, times(0)).save(any(Producer.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchRejectsSort() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+
+        assertThrows(IllegalSortException.class, () -> producerService.searchProducerVersions("merc", pageable));
+        verifyNoInteractions(producerRepository);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.config.EntityCacheProperties;
+import dev.alexcoss.carservice.config.HibernateCacheConfig;
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProducerService.class, CarModelService.class, HibernateCacheConfig.class, EntityCacheProperties.class,
+    ProducerMapper.class, CarModelMapper.class})
+class ReferenceDataCacheTest extends PostgresContainerTest {
+
+    @Autowired
+    private ProducerService producerService;
+
+    @Autowired
+    private CarModelService carModelService;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Producer producer;
+
+    private CarModel carModel;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+
+        producer = producerRepository.save(Producer.builder().name("Audi").build());
+        carModel = carModelRepository.save(CarModel.builder().name("Q3").producer(producer).build());
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testHotLookupsSkipDatabase() {
+        producerService.getProducerById(producer.getId());
+        carModelService.getCarModelById(carModel.getId());
+        long warmUpStatements = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Audi", producerService.getProducerById(producer.getId()).getName());
+            assertEquals("Q3", carModelService.getCarModelById(carModel.getId()).getName());
+        }
+
+        assertTrue(warmUpStatements > 0);
+        assertEquals(warmUpStatements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testProducerUpdateInvalidatesProducerAndModels() {
+        producerService.getProducerById(producer.getId());
+        carModelService.getCarModelById(carModel.getId());
+
+        producerService.updateProducer(ProducerDTO.builder().id(producer.getId()).name("Audi AG").build());
+
+        assertEquals("Audi AG", producerService.getProducerById(producer.getId()).getName());
+        assertEquals("Audi AG", carModelService.getCarModelById(carModel.getId()).getProducer().getName());
+    }
+
+    @Test
+    void testModelUpdateInvalidatesModel() {
+        carModelService.getCarModelById(carModel.getId());
+
+        carModelService.updateCarModel(CarModelDTO.builder()
+            .id(carModel.getId())
+            .name("Q5")
+            .producer(ProducerDTO.builder().id(producer.getId()).name("Audi").build())
+            .build());
+
+        assertEquals("Q5", carModelService.getCarModelById(carModel.getId()).getName());
+    }
+}
@@ -0,0 +1,113 @@
+package dev.alexcoss.carservice.service;
+
+import dev.alexcoss.carservice.PostgresContainerTest;
+import dev.alexcoss.carservice.dto.CarModelDTO;
+import dev.alexcoss.carservice.dto.ProducerDTO;
+import dev.alexcoss.carservice.dto.TypeaheadDTO;
+import dev.alexcoss.carservice.dto.TypeaheadSuggestionDTO;
+import dev.alexcoss.carservice.mapper.CarModelMapper;
+import dev.alexcoss.carservice.mapper.ProducerMapper;
+import dev.alexcoss.carservice.model.CarModel;
+import dev.alexcoss.carservice.model.Producer;
+import dev.alexcoss.carservice.repository.CarModelRepository;
+import dev.alexcoss.carservice.repository.ProducerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TypeaheadService.class, ProducerService.class, CarModelService.class,
+    ProducerMapper.class, CarModelMapper.class})
+class TypeaheadTest extends PostgresContainerTest {
+
+    @Autowired
+    private TypeaheadService typeaheadService;
+
+    @Autowired
+    private ProducerService producerService;
+
+    @Autowired
+    private CarModelService carModelService;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private CarModelRepository carModelRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Producer mercedes;
+
+    private CarModel cClass;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE car.car_category, car.car, car.model, car.producer, car.category CASCADE");
+
+        mercedes = producerRepository.save(Producer.builder().name("Mercedes-Benz").build());
+        Producer mercury = producerRepository.save(Producer.builder().name("Mercury").build());
+        cClass = carModelRepository.save(CarModel.builder().name("C-Class").producer(mercedes).build());
+        carModelRepository.save(CarModel.builder().name("Grand Marquis").producer(mercury).build());
+        typeaheadService.load();
+    }
+
+    @Test
+    void testSuggestionsAreServedWithoutDatabaseAccess() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TypeaheadDTO merc = typeaheadService.suggest("merc", 10);
+        TypeaheadDTO cla = typeaheadService.suggest("cla", 10);
+
+        assertEquals(new TypeaheadSuggestionDTO(mercedes.getId(), "Mercedes-Benz", null), merc.manufacturers().get(0));
+        assertEquals(List.of("Mercedes-Benz", "Mercury"), names(merc.manufacturers()));
+        assertEquals(List.of(), merc.models());
+        assertEquals(List.of(new TypeaheadSuggestionDTO(cClass.getId(), "C-Class", "Mercedes-Benz")), cla.models());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testServiceWritesUpdateTheIndex() {
+        ProducerDTO tesla = producerService.createProducer(ProducerDTO.builder().name("Tesla").build());
+        CarModelDTO model3 = carModelService.createCarModel(CarModelDTO.builder().name("Model 3").producer(tesla).build());
+        producerService.updateProducer(ProducerDTO.builder().id(mercedes.getId()).name("Mercedes").build());
+        carModelService.deleteCarModel(cClass.getId());
+
+        assertEquals(List.of(new TypeaheadSuggestionDTO(model3.getId(), "Model 3", "Tesla")), typeaheadService.suggest("mod", 10).models());
+        assertEquals(List.of("Tesla"), names(typeaheadService.suggest("te", 10).manufacturers()));
+        assertEquals(List.of("Mercedes", "Mercury"), names(typeaheadService.suggest("merc", 10).manufacturers()));
+        assertEquals(List.of(), typeaheadService.suggest("benz", 10).manufacturers());
+        assertEquals(List.of(), typeaheadService.suggest("c-cl", 10).models());
+    }
+
+    @Test
+    void testRenamedProducerIsShownOnItsModels() {
+        producerService.updateProducer(ProducerDTO.builder().id(mercedes.getId()).name("Daimler").build());
+
+        assertEquals(List.of(new TypeaheadSuggestionDTO(cClass.getId(), "C-Class", "Daimler")), typeaheadService.suggest("c-class", 10).models());
+    }
+
+    private static List<String> names(List<TypeaheadSuggestionDTO> suggestions) {
+        return suggestions.stream().map(TypeaheadSuggestionDTO::name).toList();
+    }
+}
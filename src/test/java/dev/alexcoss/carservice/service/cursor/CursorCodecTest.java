@@ -0,0 +1,77 @@
+package dev.alexcoss.carservice.service.cursor;
+
+import dev.alexcoss.carservice.util.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorCodecTest {
+
+    private static final Map<String, Class<?>> PROPERTIES = Map.of("id", Long.class, "name", String.class);
+
+    @Test
+    void testKeysetSortAppendsIdTieBreaker() {
+        Sort sort = CursorCodec.keysetSort(Sort.by(Sort.Direction.DESC, "name"), PROPERTIES);
+
+        assertEquals(Sort.by(Sort.Order.desc("name"), Sort.Order.asc("id")), sort);
+        assertEquals(Sort.by("id"), CursorCodec.keysetSort(Sort.by("id"), PROPERTIES));
+    }
+
+    @Test
+    void testKeysetSortRejectsUnknownProperty() {
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.keysetSort(Sort.by("producer.name"), PROPERTIES));
+    }
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", "Model 3 & S=X");
+        keys.put("id", 42L);
+        Sort sort = CursorCodec.keysetSort(Sort.by("name"), PROPERTIES);
+
+        String cursor = CursorCodec.encode(ScrollPosition.forward(keys));
+        KeysetScrollPosition position = (KeysetScrollPosition) CursorCodec.decode(cursor, sort, PROPERTIES);
+
+        assertFalse(cursor.contains("Model"));
+        assertEquals(keys, position.getKeys());
+        assertTrue(position.scrollsForward());
+    }
+
+    @Test
+    void testDecodeEmptyCursorStartsAtBeginning() {
+        assertTrue(CursorCodec.decode("", Sort.by("id"), PROPERTIES).isInitial());
+        assertTrue(CursorCodec.decode(null, Sort.by("id"), PROPERTIES).isInitial());
+    }
+
+    @Test
+    void testDecodeRejectsCursorForDifferentSort() {
+        String cursor = CursorCodec.encode(ScrollPosition.forward(Map.of("id", 42L)));
+
+        assertThrows(InvalidCursorException.class,
+            () -> CursorCodec.decode(cursor, CursorCodec.keysetSort(Sort.by("name"), PROPERTIES), PROPERTIES));
+    }
+
+    @Test
+    void testDecodeRejectsMalformedCursor() {
+        String unknownProperty = Base64.getUrlEncoder().encodeToString("password=secret".getBytes());
+        String badNumber = Base64.getUrlEncoder().encodeToString("id=abc".getBytes());
+
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode("not base64!", Sort.by("id"), PROPERTIES));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(unknownProperty, Sort.by("id"), PROPERTIES));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(badNumber, Sort.by("id"), PROPERTIES));
+    }
+
+    @Test
+    void testLimitIsClamped() {
+        assertEquals(1, CursorCodec.limit(0));
+        assertEquals(25, CursorCodec.limit(25));
+        assertEquals(CursorCodec.MAX_PAGE_SIZE, CursorCodec.limit(10_000));
+    }
+}
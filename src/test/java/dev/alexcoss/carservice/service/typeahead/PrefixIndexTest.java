@@ -0,0 +1,60 @@
+package dev.alexcoss.carservice.service.typeahead;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    @Test
+    void testFindMatchesNameStartsBeforeWordStarts() {
+        PrefixIndex<String> index = new PrefixIndex<>();
+        index.put(1L, "Benz Motors", "Benz Motors");
+        index.put(2L, "Mercedes-Benz", "Mercedes-Benz");
+        index.put(3L, "Mercury", "Mercury");
+
+        assertEquals(List.of("Mercedes-Benz", "Mercury"), index.find("merc", 10));
+        assertEquals(List.of("Benz Motors", "Mercedes-Benz"), index.find("BENZ", 10));
+        assertEquals(List.of("Benz Motors"), index.find("motor", 10));
+        assertEquals(List.of("Mercedes-Benz"), index.find("merc", 1));
+    }
+
+    @Test
+    void testFindIgnoresCaseAndAccents() {
+        PrefixIndex<String> index = new PrefixIndex<>();
+        index.put(1L, "Citroën", "Citroën");
+        index.put(2L, "Škoda", "Škoda");
+
+        assertEquals(List.of("Citroën"), index.find("citroe", 10));
+        assertEquals(List.of("Škoda"), index.find(" sko", 10));
+        assertEquals(List.of(), index.find("  ", 10));
+    }
+
+    @Test
+    void testPutReplacesAndRemoveDropsAllKeys() {
+        PrefixIndex<String> index = new PrefixIndex<>();
+        index.put(1L, "Grand Cherokee", "Grand Cherokee");
+        index.put(1L, "Grand Wagoneer", "Grand Wagoneer");
+
+        assertEquals(List.of(), index.find("cherokee", 10));
+        assertEquals(List.of("Grand Wagoneer"), index.find("wag", 10));
+        assertEquals(1, index.size());
+
+        index.remove(1L);
+        index.remove(2L);
+
+        assertEquals(List.of(), index.find("grand", 10));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testSameNameWithDifferentIdsIsKeptApart() {
+        PrefixIndex<String> index = new PrefixIndex<>();
+        index.put(1L, "Model 3", "Tesla Model 3");
+        index.put(2L, "Model 3", "Other Model 3");
+
+        assertEquals(2, index.find("model 3", 10).size());
+    }
+}